@@ -2,11 +2,15 @@ plugins {
     id("java")
     id("org.springframework.boot") version "3.2.4"
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
+// 기본은 Java 17. 가상 스레드 모드는 -PjavaVersion=21 로 21 툴체인에서 빌드/실행한다.
+val javaVersion = (findProperty("javaVersion") as String?)?.toInt() ?: 17
+
 java {
     toolchain {
-        languageVersion.set(JavaLanguageVersion.of(17))
+        languageVersion.set(JavaLanguageVersion.of(javaVersion))
     }
 }
 
@@ -34,6 +38,9 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.flywaydb:flyway-core")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.3.0")
 
     implementation("io.jsonwebtoken:jjwt-api:$jjwtVersion")
@@ -41,14 +48,50 @@ dependencies {
     implementation("io.jsonwebtoken:jjwt-jackson:$jjwtVersion")
 
     runtimeOnly("org.postgresql:postgresql")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+    // security.password.encoder=argon2 일 때 Argon2PasswordEncoder가 사용한다.
+    runtimeOnly("org.bouncycastle:bcprov-jdk18on:1.77")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("org.springframework.boot:spring-boot-testcontainers")
+    testImplementation("org.testcontainers:junit-jupiter")
+    testImplementation("org.testcontainers:postgresql")
+
+    jmhImplementation("org.mockito:mockito-core")
+    jmhImplementation("org.testcontainers:postgresql")
+    jmhImplementation("org.postgresql:postgresql")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// gradle jmh: 결과는 릴리스 간 회귀 비교를 위해 JSON으로 남긴다.
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    // gradle jmh -PjmhIncludes=UserIdInsertBenchmark -PjmhProfilers=gc 처럼 일부만, 프로파일러와 함께 실행한다.
+    (findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+    (findProperty("jmhProfilers") as String?)?.let { profilers.set(it.split(",")) }
+    jvmArgsAppend.set(listOf("benchmark.jdbc.url", "benchmark.jdbc.username", "benchmark.jdbc.password")
+        .mapNotNull { key -> System.getProperty(key)?.let { "-D$key=$it" } })
+}
+
+// 리프레시 토큰 저장 형식별 Redis 메모리 비교. 로컬 Redis(docker compose up redis)가 필요하다.
+tasks.register<JavaExec>("refreshTokenMemoryReport") {
+    group = "benchmark"
+    description = "Compares Redis memory used by full-JWT and digest refresh-token storage."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.example.auth.benchmark.RefreshTokenMemoryReport")
+    listOf("redis.host", "redis.port", "sessions").forEach { key ->
+        System.getProperty(key)?.let { systemProperty(key, it) }
+    }
+}
+
 tasks.jar {
     enabled = false
 }
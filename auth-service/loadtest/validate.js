@@ -0,0 +1,69 @@
+// MVC(/auth/validate)와 리액티브(/auth/validate/reactive) 검증 경로를 같은 도착률로 차례로 돌려 처리량과 p99를 비교한다.
+//   k6 run -e BASE_URL=http://localhost:8080 -e RATE=2000 -e DURATION=60s auth-service/loadtest/validate.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 1000);
+const DURATION = __ENV.DURATION || '60s';
+const MAX_VUS = Number(__ENV.MAX_VUS || 500);
+const PAUSE = '10s';
+
+function scenario(endpoint, startTime) {
+    return {
+        executor: 'constant-arrival-rate',
+        exec: endpoint,
+        rate: RATE,
+        timeUnit: '1s',
+        duration: DURATION,
+        preAllocatedVUs: Math.min(MAX_VUS, 100),
+        maxVUs: MAX_VUS,
+        startTime,
+        tags: { endpoint },
+    };
+}
+
+function seconds(duration) {
+    const value = parseInt(duration, 10);
+    return duration.endsWith('m') ? value * 60 : value;
+}
+
+export const options = {
+    scenarios: {
+        mvc: scenario('mvc', '0s'),
+        reactive: scenario('reactive', `${seconds(DURATION) + seconds(PAUSE)}s`),
+    },
+    // 임계값은 태그별 요약을 출력하기 위한 것이다. 판정 기준은 두 행을 나란히 비교하는 것이다.
+    thresholds: {
+        'http_req_duration{endpoint:mvc}': ['p(99)>=0'],
+        'http_req_duration{endpoint:reactive}': ['p(99)>=0'],
+        'http_reqs{endpoint:mvc}': ['count>=0'],
+        'http_reqs{endpoint:reactive}': ['count>=0'],
+        'http_req_failed{endpoint:mvc}': ['rate<0.01'],
+        'http_req_failed{endpoint:reactive}': ['rate<0.01'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const email = `loadtest-${Date.now()}@example.com`;
+    const password = 'loadtest-password';
+    const headers = { 'Content-Type': 'application/json' };
+    http.post(`${BASE_URL}/api/v1/auth/signup`, JSON.stringify({ email, password, nickname: 'loadtest' }), { headers });
+    const login = http.post(`${BASE_URL}/api/v1/auth/login`, JSON.stringify({ email, password }), { headers });
+    check(login, { 'login succeeded': (r) => r.status === 200 });
+    return { authorization: `Bearer ${login.json('accessToken')}` };
+}
+
+function validate(path, data) {
+    const response = http.get(`${BASE_URL}${path}`, { headers: { Authorization: data.authorization } });
+    check(response, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function mvc(data) {
+    validate('/auth/validate', data);
+}
+
+export function reactive(data) {
+    validate('/auth/validate/reactive', data);
+}
@@ -0,0 +1,55 @@
+package com.example.auth.benchmark;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.security.JwtTokenProvider;
+import com.example.auth.security.ValidationMode;
+import com.example.auth.service.AuthService;
+import com.example.auth.service.ReactiveValidationService;
+import com.example.auth.web.dto.ValidateResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// /auth/validate, /auth/validate/reactive 핫패스 전체(헤더 파싱 -> 토큰 검증 -> 사용자 확인)를 저장소 stub 위에서 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthValidateBenchmark {
+
+    @Param({"DATABASE", "STATELESS"})
+    public ValidationMode mode;
+
+    @Param({"true", "false"})
+    public boolean verifiedCache;
+
+    private AuthService authService;
+    private ReactiveValidationService reactiveValidationService;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider();
+        AuthUserView user = BenchmarkFixtures.user("bench@example.com");
+        authService = BenchmarkFixtures.authService(jwtTokenProvider, user, mode, verifiedCache);
+        reactiveValidationService = BenchmarkFixtures.reactiveValidationService(jwtTokenProvider, user, mode, verifiedCache);
+        authorizationHeader = "Bearer " + jwtTokenProvider.createAccessToken(user, 0);
+    }
+
+    @Benchmark
+    public ValidateResponse validate() {
+        return authService.validate(authorizationHeader);
+    }
+
+    // 같은 규칙을 리액티브 경로로 수행했을 때 Mono 조립/구독 비용을 본다. 캐시 적중 시 Redis 호출은 없다.
+    @Benchmark
+    public ValidateResponse validateReactive() {
+        return reactiveValidationService.validate(authorizationHeader).block();
+    }
+}
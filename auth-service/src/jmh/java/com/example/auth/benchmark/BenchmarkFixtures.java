@@ -0,0 +1,155 @@
+package com.example.auth.benchmark;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+import com.example.auth.metrics.AuthMetrics;
+import com.example.auth.repository.AccountRepository;
+import com.example.auth.repository.UserRepository;
+import com.example.auth.security.AccessTokenAuthenticator;
+import com.example.auth.security.JwtKeyRing;
+import com.example.auth.security.JwtSigningAlgorithm;
+import com.example.auth.security.JwtTokenProvider;
+import com.example.auth.security.ValidationMode;
+import com.example.auth.security.VerifiedTokenCache;
+import com.example.auth.service.AuthService;
+import com.example.auth.service.LoginRateLimiter;
+import com.example.auth.service.PasswordHashingService;
+import com.example.auth.service.ReactiveValidationService;
+import com.example.auth.service.RefreshTokenService;
+import com.example.auth.service.TokenRevocationService;
+import com.example.auth.service.UserService;
+import com.example.auth.service.UserStatusCache;
+import com.example.auth.service.UserStatusVersionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// 벤치마크에서 공유하는 객체 그래프. 저장소와 Redis는 호출 기록을 남기지 않는 stub-only 목으로 대체한다.
+final class BenchmarkFixtures {
+
+    static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+    static final long ACCESS_TOKEN_VALIDITY_SECONDS = 900;
+    static final long REFRESH_TOKEN_VALIDITY_SECONDS = 604800;
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtTokenProvider jwtTokenProvider() {
+        return jwtTokenProvider(JwtSigningAlgorithm.HS512);
+    }
+
+    static JwtTokenProvider jwtTokenProvider(JwtSigningAlgorithm algorithm) {
+        JwtKeyRing keyRing = new JwtKeyRing(algorithm, "", Duration.ZERO);
+        return new JwtTokenProvider(SECRET, ACCESS_TOKEN_VALIDITY_SECONDS, REFRESH_TOKEN_VALIDITY_SECONDS, "",
+                keyRing, new SimpleMeterRegistry());
+    }
+
+    static AuthUserView user(String email) {
+        return new AuthUserView(UUID.randomUUID(), email, UserRole.USER, UserStatus.ACTIVE);
+    }
+
+    @SuppressWarnings("unchecked")
+    static StringRedisTemplate redisTemplate() {
+        StringRedisTemplate redisTemplate = stub(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = stub(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn("0");
+        return redisTemplate;
+    }
+
+    static AuthService authService(JwtTokenProvider jwtTokenProvider,
+                                   AuthUserView user,
+                                   ValidationMode mode,
+                                   boolean verifiedCacheEnabled) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StringRedisTemplate redisTemplate = redisTemplate();
+        ReactiveStringRedisTemplate reactiveRedisTemplate = reactiveRedisTemplate();
+        UserService userService = userService(user);
+        UserStatusVersionService versionService = versionService(redisTemplate, reactiveRedisTemplate);
+        TokenRevocationService revocationService = revocationService(redisTemplate, reactiveRedisTemplate, meterRegistry);
+        AccessTokenAuthenticator authenticator = authenticator(jwtTokenProvider, userService, versionService,
+                revocationService, mode, verifiedCacheEnabled, meterRegistry);
+        PasswordHashingService hashingService = new PasswordHashingService(new BCryptPasswordEncoder(4), meterRegistry,
+                1, 16, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        return new AuthService(userService, stub(AccountRepository.class), hashingService, jwtTokenProvider,
+                new RefreshTokenService(redisTemplate, meterRegistry), authenticator, versionService, revocationService,
+                new LoginRateLimiter(redisTemplate, meterRegistry, Duration.ofMinutes(1), 30, 10, 10_000),
+                new AuthMetrics(meterRegistry));
+    }
+
+    static ReactiveValidationService reactiveValidationService(JwtTokenProvider jwtTokenProvider,
+                                                               AuthUserView user,
+                                                               ValidationMode mode,
+                                                               boolean verifiedCacheEnabled) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StringRedisTemplate redisTemplate = redisTemplate();
+        ReactiveStringRedisTemplate reactiveRedisTemplate = reactiveRedisTemplate();
+        AccessTokenAuthenticator authenticator = authenticator(jwtTokenProvider, userService(user),
+                versionService(redisTemplate, reactiveRedisTemplate),
+                revocationService(redisTemplate, reactiveRedisTemplate, meterRegistry),
+                mode, verifiedCacheEnabled, meterRegistry);
+        return new ReactiveValidationService(authenticator, new AuthMetrics(meterRegistry));
+    }
+
+    @SuppressWarnings("unchecked")
+    static ReactiveStringRedisTemplate reactiveRedisTemplate() {
+        ReactiveStringRedisTemplate redisTemplate = stub(ReactiveStringRedisTemplate.class);
+        ReactiveValueOperations<String, String> valueOperations = stub(ReactiveValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn(Mono.just("0"));
+        return redisTemplate;
+    }
+
+    private static UserService userService(AuthUserView user) {
+        UserRepository userRepository = stub(UserRepository.class);
+        when(userRepository.findAuthViewById(any())).thenReturn(Optional.of(user));
+        return new UserService(userRepository, event -> { });
+    }
+
+    private static UserStatusVersionService versionService(StringRedisTemplate redisTemplate,
+                                                           ReactiveStringRedisTemplate reactiveRedisTemplate) {
+        return new UserStatusVersionService(redisTemplate, reactiveRedisTemplate, Duration.ofMinutes(1), 10_000);
+    }
+
+    // 폐기 목록이 비어 있으므로 블룸 필터만 확인하고 Redis는 조회하지 않는다.
+    private static TokenRevocationService revocationService(StringRedisTemplate redisTemplate,
+                                                            ReactiveStringRedisTemplate reactiveRedisTemplate,
+                                                            MeterRegistry meterRegistry) {
+        return new TokenRevocationService(redisTemplate, reactiveRedisTemplate, meterRegistry,
+                100_000, 0.001, ACCESS_TOKEN_VALIDITY_SECONDS);
+    }
+
+    private static AccessTokenAuthenticator authenticator(JwtTokenProvider jwtTokenProvider,
+                                                          UserService userService,
+                                                          UserStatusVersionService versionService,
+                                                          TokenRevocationService revocationService,
+                                                          ValidationMode mode,
+                                                          boolean verifiedCacheEnabled,
+                                                          MeterRegistry meterRegistry) {
+        UserStatusCache userStatusCache = new UserStatusCache(userService, meterRegistry, Duration.ofMinutes(1), 10_000);
+        VerifiedTokenCache verifiedTokenCache =
+                new VerifiedTokenCache(jwtTokenProvider, meterRegistry, verifiedCacheEnabled, 10_000);
+        return new AccessTokenAuthenticator(verifiedTokenCache, userStatusCache, versionService, revocationService, mode);
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
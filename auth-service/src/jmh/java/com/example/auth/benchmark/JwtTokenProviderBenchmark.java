@@ -0,0 +1,54 @@
+package com.example.auth.benchmark;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.security.JwtSigningAlgorithm;
+import com.example.auth.security.JwtTokenProvider;
+import com.example.auth.security.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String FAMILY_ID = "bench-family";
+
+    @Param({"HS512", "RS256", "EDDSA"})
+    public JwtSigningAlgorithm algorithm;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private AuthUserView user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider(algorithm);
+        user = BenchmarkFixtures.user("bench@example.com");
+        accessToken = jwtTokenProvider.createAccessToken(user, 0);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(user, 0);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtTokenProvider.createRefreshToken(user.id(), FAMILY_ID);
+    }
+
+    // parseClaims는 verify 안에서만 호출되므로, 서명 검증 + 클레임 디코딩 비용을 verify로 측정한다.
+    @Benchmark
+    public VerifiedToken parseClaims() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.auth.benchmark;
+
+import com.example.auth.security.JwtTokenProvider;
+import com.example.auth.service.RefreshTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+// 리프레시 토큰 저장 형식별 Redis 메모리 사용량 비교 (gradle refreshTokenMemoryReport).
+// 원문 JWT를 저장하던 형식과 다이제스트를 저장하는 현재 형식으로 같은 수의 세션을 쓰고 used_memory 증가량과 키당 MEMORY USAGE를 출력한다.
+// 실행 중인 Redis가 필요하다. -Dredis.host, -Dredis.port, -Dsessions 로 조정한다.
+public final class RefreshTokenMemoryReport {
+
+    private RefreshTokenMemoryReport() {
+    }
+
+    public static void main(String[] args) {
+        String host = System.getProperty("redis.host", "localhost");
+        int port = Integer.getInteger("redis.port", 6379);
+        int sessions = Integer.getInteger("sessions", 10_000);
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+        try {
+            StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+            JwtTokenProvider jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider();
+            RefreshTokenService refreshTokenService = new RefreshTokenService(redisTemplate, new SimpleMeterRegistry());
+            Duration ttl = Duration.ofSeconds(BenchmarkFixtures.REFRESH_TOKEN_VALIDITY_SECONDS);
+
+            List<UUID> userIds = new ArrayList<>(sessions);
+            for (int i = 0; i < sessions; i++) {
+                userIds.add(UUID.randomUUID());
+            }
+
+            long before = usedMemory(redisTemplate);
+            for (UUID userId : userIds) {
+                String token = jwtTokenProvider.createRefreshToken(userId, UUID.randomUUID().toString());
+                redisTemplate.opsForValue().set("refresh:" + userId, token, ttl);
+            }
+            long jwtBytes = usedMemory(redisTemplate) - before;
+            long jwtKeyBytes = memoryUsage(redisTemplate, "refresh:" + userIds.get(0));
+            userIds.forEach(refreshTokenService::delete);
+
+            before = usedMemory(redisTemplate);
+            List<String> families = new ArrayList<>(sessions);
+            for (UUID userId : userIds) {
+                String familyId = UUID.randomUUID().toString();
+                String token = jwtTokenProvider.createRefreshToken(userId, familyId);
+                refreshTokenService.startFamily(userId, familyId, token, ttl);
+                families.add(familyId);
+            }
+            long digestBytes = usedMemory(redisTemplate) - before;
+            long digestKeyBytes = memoryUsage(redisTemplate, "refresh:family:" + families.get(0))
+                    + memoryUsage(redisTemplate, "refresh:families:" + userIds.get(0));
+            userIds.forEach(refreshTokenService::delete);
+
+            System.out.printf("sessions: %d%n", sessions);
+            System.out.printf("%-16s %14s %14s%n", "format", "used_memory", "per session");
+            System.out.printf("%-16s %14d %14d  (MEMORY USAGE %d)%n", "full JWT", jwtBytes, jwtBytes / sessions, jwtKeyBytes);
+            System.out.printf("%-16s %14d %14d  (MEMORY USAGE %d)%n", "digest family", digestBytes, digestBytes / sessions, digestKeyBytes);
+        } finally {
+            connectionFactory.destroy();
+        }
+    }
+
+    private static long usedMemory(StringRedisTemplate redisTemplate) {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private static long memoryUsage(StringRedisTemplate redisTemplate, String key) {
+        Long bytes = redisTemplate.execute((RedisCallback<Long>) connection -> (Long) connection.execute("MEMORY",
+                "USAGE".getBytes(StandardCharsets.US_ASCII), key.getBytes(StandardCharsets.US_ASCII)));
+        return bytes == null ? 0 : bytes;
+    }
+}
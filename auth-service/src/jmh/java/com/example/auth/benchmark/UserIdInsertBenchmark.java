@@ -0,0 +1,144 @@
+package com.example.auth.benchmark;
+
+import com.example.auth.domain.user.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// users 기본키를 v4(난수)와 v7(시간 순)로 채웠을 때의 배치 INSERT 처리량, PK 조회 시간, PK 인덱스 크기를 비교한다.
+// Testcontainers로 Postgres를 띄우며 Docker가 필요하다. -Dbenchmark.jdbc.url=... 을 주면 해당 DB를 사용한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class UserIdInsertBenchmark {
+
+    public enum IdType {
+        V4,
+        V7;
+
+        UUID next() {
+            return this == V4 ? UUID.randomUUID() : UuidV7.next();
+        }
+    }
+
+    @Param({"V4", "V7"})
+    public IdType idType;
+
+    // 측정 전에 미리 채워 둘 행 수. 인덱스가 shared_buffers보다 커져야 차이가 드러난다.
+    @Param({"500000"})
+    public int preloadRows;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement lookup;
+    private UUID[] lookupSample;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String jdbcUrl = System.getProperty("benchmark.jdbc.url");
+        if (jdbcUrl == null) {
+            postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+            postgres.start();
+            connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        } else {
+            connection = DriverManager.getConnection(jdbcUrl,
+                    System.getProperty("benchmark.jdbc.username"), System.getProperty("benchmark.jdbc.password"));
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_users");
+            statement.execute("CREATE TABLE bench_users (id uuid PRIMARY KEY, email varchar(255) NOT NULL)");
+        }
+        insert = connection.prepareStatement("INSERT INTO bench_users (id, email) VALUES (?, ?)");
+        lookup = connection.prepareStatement("SELECT email FROM bench_users WHERE id = ?");
+
+        lookupSample = new UUID[10_000];
+        int sampleEvery = Math.max(1, preloadRows / lookupSample.length);
+        connection.setAutoCommit(false);
+        for (int i = 0; i < preloadRows; i++) {
+            UUID id = idType.next();
+            if (i % sampleEvery == 0 && i / sampleEvery < lookupSample.length) {
+                lookupSample[i / sampleEvery] = id;
+            }
+            insert.setObject(1, id);
+            insert.setString(2, "user" + i + "@example.com");
+            insert.addBatch();
+            if ((i + 1) % batchSize == 0) {
+                insert.executeBatch();
+                connection.commit();
+            }
+        }
+        insert.executeBatch();
+        connection.commit();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE bench_users");
+        }
+    }
+
+    @Benchmark
+    public int insertBatch() throws SQLException {
+        for (int i = 0; i < batchSize; i++) {
+            insert.setObject(1, idType.next());
+            insert.setString(2, "bench@example.com");
+            insert.addBatch();
+        }
+        int inserted = insert.executeBatch().length;
+        connection.commit();
+        return inserted;
+    }
+
+    @Benchmark
+    public String lookupById() throws SQLException {
+        UUID id = lookupSample[ThreadLocalRandom.current().nextInt(lookupSample.length)];
+        lookup.setObject(1, id);
+        try (ResultSet resultSet = lookup.executeQuery()) {
+            return resultSet.next() ? resultSet.getString(1) : null;
+        }
+    }
+
+    // JMH 결과에 담기지 않는 인덱스 크기와 리프 밀도를 출력한다. 난수 키는 페이지 분할로 밀도가 낮아진다.
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+            try (ResultSet resultSet = statement.executeQuery(
+                    "SELECT count(*), pg_relation_size('bench_users_pkey'), "
+                            + "(SELECT avg_leaf_density FROM pgstatindex('bench_users_pkey')) FROM bench_users")) {
+                resultSet.next();
+                System.out.printf("%n[%s] rows=%d pkey_size=%d bytes (%.1f bytes/row) avg_leaf_density=%.1f%%%n",
+                        idType, resultSet.getLong(1), resultSet.getLong(2),
+                        (double) resultSet.getLong(2) / resultSet.getLong(1), resultSet.getDouble(3));
+            }
+        } finally {
+            connection.close();
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.auth.benchmark;
+
+import com.example.auth.AuthServiceApplication;
+import com.example.auth.domain.account.AccountEntity;
+import com.example.auth.domain.account.LoginCredentials;
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.domain.user.UserEntity;
+import com.example.auth.repository.AccountRepository;
+import com.example.auth.repository.UserRepository;
+import com.example.auth.service.UserService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 인증 경로의 사용자/로그인 조회를 엔티티 로딩과 생성자 프로젝션으로 비교한다. 할당량은 -PjmhProfilers=gc 로 함께 본다.
+// 실제 애플리케이션 컨텍스트를 Testcontainers의 Postgres/Redis 위에 띄우므로 Docker가 필요하다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UserLookupBenchmark {
+
+    public enum Lookup {
+        USER_ENTITY,
+        USER_PROJECTION,
+        LOGIN_ENTITY,
+        LOGIN_PROJECTION
+    }
+
+    private static final int USERS = 10_000;
+
+    @Param({"USER_ENTITY", "USER_PROJECTION", "LOGIN_ENTITY", "LOGIN_PROJECTION"})
+    public Lookup lookup;
+
+    private PostgreSQLContainer<?> postgres;
+    private GenericContainer<?> redis;
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private AccountRepository accountRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private UUID[] userIds;
+    private String[] emails;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+        postgres.start();
+        redis.start();
+        context = new SpringApplicationBuilder(AuthServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.data.redis.host=" + redis.getHost(),
+                        "spring.data.redis.port=" + redis.getMappedPort(6379),
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        userService = context.getBean(UserService.class);
+        accountRepository = context.getBean(AccountRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        seedUsers(context.getBean(UserRepository.class));
+    }
+
+    @Benchmark
+    public Object lookup() {
+        int index = ThreadLocalRandom.current().nextInt(USERS);
+        return switch (lookup) {
+            case USER_ENTITY -> AuthUserView.from(userService.getById(userIds[index]));
+            case USER_PROJECTION -> userService.getAuthView(userIds[index]);
+            // 변경 전 findByProviderAndProviderId(@EntityGraph("user"))와 같은 쿼리
+            case LOGIN_ENTITY -> readOnlyTransaction.execute(status -> entityManager.createQuery(
+                            "select a from AccountEntity a join fetch a.user where a.provider = :provider and a.providerId = :providerId",
+                            AccountEntity.class)
+                    .setParameter("provider", AccountEntity.LOCAL_PROVIDER)
+                    .setParameter("providerId", emails[index])
+                    .getSingleResult()
+                    .getPasswordHash());
+            case LOGIN_PROJECTION -> accountRepository.findLoginCredentials(AccountEntity.LOCAL_PROVIDER, emails[index])
+                    .map(LoginCredentials::passwordHash)
+                    .orElseThrow();
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        redis.stop();
+        postgres.stop();
+    }
+
+    private void seedUsers(UserRepository userRepository) {
+        userIds = new UUID[USERS];
+        emails = new String[USERS];
+        List<UserEntity> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            emails[i] = "bench" + i + "@example.com";
+            UserEntity user = UserEntity.create(emails[i], "bench");
+            user.addAccount(AccountEntity.ofLocal(emails[i], "{bcrypt}$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbench"));
+            users.add(user);
+        }
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> userRepository.saveAll(users));
+        for (int i = 0; i < USERS; i++) {
+            userIds[i] = users.get(i).getId();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.auth.benchmark;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.security.JwtTokenProvider;
+import com.example.auth.security.ValidationMode;
+import com.example.auth.service.AuthService;
+import com.example.auth.web.ValidateHeaderCache;
+import com.example.auth.web.dto.ValidateResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// /auth/validate(JSON 본문 + X-User-Id)와 /auth/validate/headers(캐시된 헤더 값만)의 응답 준비 비용을 비교한다.
+// 요청당 할당량은 -PjmhProfilers=gc 로 실행해 gc.alloc.rate.norm(B/op)을 본다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidateResponseBenchmark {
+
+    private AuthService authService;
+    private ValidateHeaderCache validateHeaderCache;
+    private ObjectMapper objectMapper;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider();
+        AuthUserView user = BenchmarkFixtures.user("bench@example.com");
+        authService = BenchmarkFixtures.authService(jwtTokenProvider, user, ValidationMode.STATELESS, true);
+        validateHeaderCache = new ValidateHeaderCache(10_000);
+        objectMapper = new ObjectMapper();
+        authorizationHeader = "Bearer " + jwtTokenProvider.createAccessToken(user, 0);
+    }
+
+    @Benchmark
+    public byte[] body(Blackhole blackhole) throws JsonProcessingException {
+        ValidateResponse response = authService.validate(authorizationHeader);
+        blackhole.consume(response.userId().toString());
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public void headers(Blackhole blackhole) {
+        ValidateHeaderCache.Headers headers = validateHeaderCache.get(authService.validateUser(authorizationHeader));
+        blackhole.consume(headers.userId());
+        blackhole.consume(headers.email());
+        blackhole.consume(headers.role());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.auth.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+// 저장되는 해시는 {id} 접두사로 알고리즘을 구분한다. 새 해시는 security.password.encoder 로 만들고,
+// 접두사가 없는 기존 BCrypt 해시도 검증한 뒤 로그인 시 현재 설정으로 다시 해시한다.
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoderConfig.class);
+
+    private static final int CALIBRATION_BASE_STRENGTH = 8;
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${security.password.encoder}") String encoderId,
+                                           @Value("${security.password.bcrypt.strength}") int bcryptStrength,
+                                           @Value("${security.password.calibration.enabled}") boolean calibrate,
+                                           @Value("${security.password.calibration.target}") Duration target) {
+        int strength = calibrate ? calibrateBCrypt(bcryptStrength, target) : bcryptStrength;
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encoderId, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+
+    // 이 호스트에서 검증 한 번이 target 안에 끝나는 가장 높은 BCrypt 비용을 고른다. 비용이 1 오를 때마다 시간은 두 배가 된다.
+    // 설정된 strength 아래로는 내려가지 않으므로, 노드마다 결과가 달라도 해시는 더 높은 비용 쪽으로만 갱신된다.
+    private int calibrateBCrypt(int minimumStrength, Duration target) {
+        long baseNanos = measureMatches(CALIBRATION_BASE_STRENGTH);
+        double doublings = Math.log((double) target.toNanos() / baseNanos) / Math.log(2);
+        int calibrated = CALIBRATION_BASE_STRENGTH + (int) Math.floor(doublings);
+        int strength = Math.min(MAX_BCRYPT_STRENGTH, Math.max(minimumStrength, calibrated));
+        log.info("Calibrated BCrypt strength {} for a {} ms verification target (strength {} took {} ms)",
+                strength, target.toMillis(), CALIBRATION_BASE_STRENGTH, baseNanos / 1_000_000);
+        return strength;
+    }
+
+    // 워밍업 후 세 번 중 가장 빠른 시간을 쓴다.
+    private long measureMatches(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        String hash = encoder.encode("calibration-password");
+        encoder.matches("calibration-password", hash);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.matches("calibration-password", hash);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.auth.config;
+
+import com.example.auth.service.UserInvalidationBroadcaster;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+@Configuration
+public class RedisConfig {
+
+    // 연결이 끊긴 동안 명령을 메모리에 쌓아 두면 요청 스레드가 타임아웃까지 붙잡힌다. 즉시 실패시키고 대기열 크기를 제한한다.
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer lettuceClientOptions(
+            @Value("${spring.data.redis.connect-timeout}") Duration connectTimeout,
+            @Value("${redis.client.request-queue-size}") int requestQueueSize) {
+        return builder -> builder.clientOptions(ClientOptions.builder()
+                .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                .timeoutOptions(TimeoutOptions.enabled())
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .requestQueueSize(requestQueueSize)
+                .build());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       UserInvalidationBroadcaster userInvalidationBroadcaster) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(userInvalidationBroadcaster, new ChannelTopic(userInvalidationBroadcaster.getChannel()));
+        return container;
+    }
+}
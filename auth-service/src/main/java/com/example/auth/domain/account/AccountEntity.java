@@ -9,20 +9,24 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import jakarta.persistence.UniqueConstraint;
 
 // 로그인 공급자별 인증 정보를 저장하는 계정 엔티티로, 하나의 사용자(UserEntity)에 여러 계정이 연결될 수 있다.
 @Entity
-@Table(name = "accounts", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"provider", "provider_id"})
-})
+@Table(name = "accounts")
 public class AccountEntity {
 
     public static final String LOCAL_PROVIDER = "LOCAL";
+    // (provider, provider_id) 유니크 커버링 인덱스 (db/migration/V2)
+    public static final String PROVIDER_CONSTRAINT = "uk_accounts_provider_provider_id";
+    // accounts_seq의 INCREMENT BY와 같아야 한다 (db/migration/V2). 일괄 가져오기도 같은 단위로 ID 블록을 예약한다.
+    public static final int ID_ALLOCATION_SIZE = 50;
 
+    // IDENTITY는 INSERT마다 키를 돌려받아야 해서 JDBC 배치가 꺼진다. 시퀀스 값을 50개 단위로 미리 할당받는다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accounts_seq")
+    @SequenceGenerator(name = "accounts_seq", sequenceName = "accounts_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -0,0 +1,22 @@
+package com.example.auth.domain.account;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+
+import java.util.UUID;
+
+// 로그인에 필요한 값만 담은 조회 결과. 엔티티와 영속성 컨텍스트를 거치지 않는다.
+public record LoginCredentials(
+        Long accountId,
+        String passwordHash,
+        UUID userId,
+        String email,
+        UserRole role,
+        UserStatus status
+) {
+
+    public AuthUserView toUserView() {
+        return new AuthUserView(userId, email, role, status);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.auth.domain.user;
+
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+
+import java.util.UUID;
+
+// 인증 경로에서 필요한 최소한의 사용자 정보(식별자, 이메일, 권한, 상태)만 담는 읽기 전용 뷰.
+public record AuthUserView(
+        UUID id,
+        String email,
+        UserRole role,
+        UserStatus status
+) {
+
+    public static AuthUserView from(UserEntity user) {
+        return new AuthUserView(user.getId(), user.getEmail(), user.getRole(), user.getStatus());
+    }
+
+    public boolean isActive() {
+        return status == UserStatus.ACTIVE;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.auth.domain.user;
+
+import java.util.UUID;
+
+// 사용자 상태나 권한처럼 인증 결과에 영향을 주는 값이 바뀌었음을 알리는 이벤트.
+public record UserAccessChangedEvent(UUID userId) {
+}
@@ -23,11 +23,14 @@ import java.util.UUID;
 @Table(name = "users")
 public class UserEntity {
 
+    // lower(email) 유니크 인덱스 (db/migration/V2)
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
     @Id
     @Column(columnDefinition = "uuid")
     private UUID id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -56,10 +59,11 @@ public class UserEntity {
         return new UserEntity(email, nickname);
     }
 
+    // 시간 순 UUIDv7을 부여한다. 이미 저장된 v4 ID는 그대로 유효하다.
     @PrePersist
     void ensureId() {
         if (id == null) {
-            id = UUID.randomUUID();
+            id = UuidV7.next();
         }
     }
 
@@ -0,0 +1,7 @@
+package com.example.auth.domain.user;
+
+import java.util.UUID;
+
+// 사용자의 기존 토큰을 모두 무효화해야 할 때(정지, 비밀번호 변경 등) 커밋 이후 처리하도록 발행한다.
+public record UserTokensRevokedEvent(UUID userId) {
+}
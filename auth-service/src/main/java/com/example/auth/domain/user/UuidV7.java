@@ -0,0 +1,42 @@
+package com.example.auth.domain.user;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// RFC 9562 UUIDv7: 상위 48비트는 Unix 밀리초, 이어지는 12비트(rand_a)는 같은 밀리초 안의 증가 카운터, 나머지 62비트는 난수.
+// 값이 시간 순으로 증가하므로 B-tree 기본키에 오른쪽 끝으로만 삽입된다. 기존 v4 값과 같은 uuid 컬럼에 섞여도 문제없다.
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    // (밀리초 << 12) | 카운터. 카운터가 넘치면 밀리초 자리로 올라가 단조 증가가 유지된다.
+    private static final AtomicLong STATE = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis();
+        long previous;
+        long next;
+        do {
+            previous = STATE.get();
+            // 새 밀리초에서는 카운터를 하위 절반의 난수로 시작해 증가 여유를 남기고, 같은 밀리초(또는 시계 역행)면 1 올린다.
+            next = now > (previous >>> COUNTER_BITS)
+                    ? (now << COUNTER_BITS) | RANDOM.nextInt(1 << (COUNTER_BITS - 1))
+                    : previous + 1;
+        } while (!STATE.compareAndSet(previous, next));
+
+        long timestamp = next >>> COUNTER_BITS;
+        long mostSignificantBits = (timestamp << 16) | 0x7000L | (next & COUNTER_MASK);
+        long leastSignificantBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
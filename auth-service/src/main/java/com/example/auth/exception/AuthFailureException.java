@@ -0,0 +1,17 @@
+package com.example.auth.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AuthFailureException extends ApiException {
+
+    private final AuthFailureReason reason;
+
+    public AuthFailureException(HttpStatus status, String message, AuthFailureReason reason) {
+        super(status, message);
+        this.reason = reason;
+    }
+
+    public AuthFailureReason getReason() {
+        return reason;
+    }
+}
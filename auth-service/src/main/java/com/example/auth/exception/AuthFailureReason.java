@@ -0,0 +1,22 @@
+package com.example.auth.exception;
+
+import java.util.Locale;
+
+// 인증 실패 원인. 메트릭의 reason 태그로 사용된다.
+public enum AuthFailureReason {
+    MISSING_TOKEN,
+    BAD_SIGNATURE,
+    EXPIRED,
+    MALFORMED,
+    WRONG_TYPE,
+    STALE_STATUS,
+    INACTIVE,
+    MISMATCH,
+    REUSED,
+    REVOKED,
+    BAD_CREDENTIALS;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
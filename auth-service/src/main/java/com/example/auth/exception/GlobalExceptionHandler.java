@@ -1,5 +1,6 @@
 package com.example.auth.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -19,6 +20,14 @@ public class GlobalExceptionHandler {
         return buildResponse(ex.getStatus(), ex.getMessage());
     }
 
+    @ExceptionHandler(RetryLaterException.class)
+    public ResponseEntity<Map<String, Object>> handleRetryLaterException(RetryLaterException ex) {
+        ResponseEntity<Map<String, Object>> response = buildResponse(ex.getStatus(), ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000)))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationException(MethodArgumentNotValidException ex) {
         StringBuilder message = new StringBuilder("Validation failed");
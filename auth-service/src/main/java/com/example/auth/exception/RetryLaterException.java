@@ -0,0 +1,20 @@
+package com.example.auth.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+// 과부하 등 일시적인 사유로 요청을 거절할 때 사용하며, 응답에 Retry-After 헤더가 함께 내려간다.
+public class RetryLaterException extends ApiException {
+
+    private final Duration retryAfter;
+
+    public RetryLaterException(HttpStatus status, String message, Duration retryAfter) {
+        super(status, message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.auth.metrics;
+
+import com.example.auth.exception.ApiException;
+import com.example.auth.exception.AuthFailureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+// 로그인/재발급/검증 등 인증 연산의 소요 시간(auth.<operation>)과 실패 원인(auth.failures)을 기록한다.
+@Component
+public class AuthMetrics {
+
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+    private static final String CANCELLED = "cancelled";
+    private static final String NO_REASON = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T record(String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = SUCCESS;
+        String reason = NO_REASON;
+        try {
+            return action.get();
+        } catch (RuntimeException ex) {
+            outcome = FAILURE;
+            reason = recordFailure(operation, ex);
+            throw ex;
+        } finally {
+            stop(sample, operation, outcome, reason);
+        }
+    }
+
+    // 리액티브 연산용. 구독부터 완료/오류 신호까지를 같은 auth.<operation> 타이머에 기록한다.
+    public <T> Mono<T> recordAsync(String operation, Supplier<Mono<T>> action) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return Mono.defer(action)
+                    .doOnSuccess(value -> stop(sample, operation, SUCCESS, NO_REASON))
+                    .doOnError(ex -> stop(sample, operation, FAILURE, recordFailure(operation, ex)))
+                    // 클라이언트 연결 종료나 게이트웨이 타임아웃으로 취소된 요청도 지연 시간 분포에 남긴다.
+                    .doOnCancel(() -> stop(sample, operation, CANCELLED, NO_REASON));
+        });
+    }
+
+    private String recordFailure(String operation, Throwable ex) {
+        String reason = reasonOf(ex);
+        meterRegistry.counter("auth.failures", "operation", operation, "reason", reason).increment();
+        return reason;
+    }
+
+    private void stop(Timer.Sample sample, String operation, String outcome, String reason) {
+        sample.stop(Timer.builder("auth." + operation)
+                .tag("outcome", outcome)
+                .tag("reason", reason)
+                .register(meterRegistry));
+    }
+
+    private String reasonOf(Throwable ex) {
+        if (ex instanceof AuthFailureException authFailure) {
+            return authFailure.getReason().tag();
+        }
+        if (ex instanceof ApiException apiException) {
+            return apiException.getStatus().name().toLowerCase(Locale.ROOT);
+        }
+        return "error";
+    }
+}
@@ -1,13 +1,28 @@
 package com.example.auth.repository;
 
 import com.example.auth.domain.account.AccountEntity;
-import org.springframework.data.jpa.repository.EntityGraph;
+import com.example.auth.domain.account.LoginCredentials;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<AccountEntity, Long> {
 
-    @EntityGraph(attributePaths = "user")
-    Optional<AccountEntity> findByProviderAndProviderId(String provider, String providerId);
+    // uk_accounts_provider_provider_id 커버링 인덱스로 계정 행을 찾고, 사용자 행은 PK로 한 번 조인한다.
+    @Query("select new com.example.auth.domain.account.LoginCredentials(a.id, a.passwordHash, u.id, u.email, u.role, u.status)"
+            + " from AccountEntity a join a.user u where a.provider = :provider and a.providerId = :providerId")
+    Optional<LoginCredentials> findLoginCredentials(@Param("provider") String provider,
+                                                    @Param("providerId") String providerId);
+
+    // 읽은 이후 비밀번호가 바뀌었다면 덮어쓰지 않는다.
+    @Transactional
+    @Modifying
+    @Query("update AccountEntity a set a.passwordHash = :upgradedHash where a.id = :id and a.passwordHash = :currentHash")
+    int upgradePasswordHash(@Param("id") Long id,
+                            @Param("currentHash") String currentHash,
+                            @Param("upgradedHash") String upgradedHash);
 }
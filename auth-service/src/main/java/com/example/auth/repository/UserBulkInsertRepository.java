@@ -0,0 +1,111 @@
+package com.example.auth.repository;
+
+import com.example.auth.domain.account.AccountEntity;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// 일괄 가져오기 전용 JDBC 경로. 배치 하나를 배열 파라미터(unnest) 한 문장으로 넣어 왕복과 파싱을 배치당 한 번으로 줄인다.
+// 엔티티와 영속성 컨텍스트를 거치지 않으므로 수백만 행을 넣어도 메모리가 배치 크기에 비례한다.
+@Repository
+public class UserBulkInsertRepository {
+
+    // users와 accounts를 한 문장에서 넣는다. 이미 있는 이메일(uk_users_email)은 건너뛰고, 실제로 들어간 사용자만 계정을 만든다.
+    private static final String INSERT_LOCAL_USERS = """
+            WITH input AS (
+                SELECT * FROM unnest(?::uuid[], ?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[])
+                    AS t(id, account_id, email, nickname, password_hash)
+            ), inserted AS (
+                INSERT INTO users (id, email, nickname, role, status)
+                SELECT id, email, nickname, ?, ? FROM input
+                ON CONFLICT DO NOTHING
+                RETURNING id
+            )
+            INSERT INTO accounts (id, user_id, provider, provider_id, password_hash)
+            SELECT input.account_id, input.id, ?, input.email, input.password_hash
+            FROM input JOIN inserted ON inserted.id = input.id
+            RETURNING user_id
+            """;
+
+    private static final String EXISTING_EMAILS = "SELECT lower(email) FROM users WHERE lower(email) = ANY (?)";
+
+    // Hibernate pooled-lo와 같은 규칙: nextval 값 v는 [v, v + allocationSize) 구간 전체를 예약한다.
+    private static final String ALLOCATE_ACCOUNT_ID_BLOCKS = "SELECT nextval('accounts_seq') FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserBulkInsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Set<String> findExistingEmails(Collection<String> normalizedEmails) {
+        if (normalizedEmails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXISTING_EMAILS);
+            statement.setArray(1, connection.createArrayOf("varchar", normalizedEmails.toArray()));
+            return statement;
+        }, (resultSet, rowNum) -> resultSet.getString(1)));
+    }
+
+    public long[] allocateAccountIds(int count) {
+        int blockSize = AccountEntity.ID_ALLOCATION_SIZE;
+        int blocks = (count + blockSize - 1) / blockSize;
+        List<Long> blockStarts = jdbcTemplate.queryForList(ALLOCATE_ACCOUNT_ID_BLOCKS, Long.class, blocks);
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = blockStarts.get(i / blockSize) + i % blockSize;
+        }
+        return ids;
+    }
+
+    // 새로 들어간 사용자 ID를 돌려준다. 돌려받지 못한 행은 이미 가입된 이메일이다.
+    public Set<UUID> insertLocalUsers(List<NewLocalUser> users) {
+        if (users.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(connection -> insertStatement(connection, users),
+                (resultSet, rowNum) -> resultSet.getObject(1, UUID.class)));
+    }
+
+    private PreparedStatement insertStatement(Connection connection, List<NewLocalUser> users) throws SQLException {
+        int size = users.size();
+        UUID[] ids = new UUID[size];
+        Long[] accountIds = new Long[size];
+        String[] emails = new String[size];
+        String[] nicknames = new String[size];
+        String[] passwordHashes = new String[size];
+        for (int i = 0; i < size; i++) {
+            NewLocalUser user = users.get(i);
+            ids[i] = user.id();
+            accountIds[i] = user.accountId();
+            emails[i] = user.email();
+            nicknames[i] = user.nickname();
+            passwordHashes[i] = user.passwordHash();
+        }
+        PreparedStatement statement = connection.prepareStatement(INSERT_LOCAL_USERS);
+        statement.setArray(1, connection.createArrayOf("uuid", ids));
+        statement.setArray(2, connection.createArrayOf("bigint", accountIds));
+        statement.setArray(3, connection.createArrayOf("varchar", emails));
+        statement.setArray(4, connection.createArrayOf("varchar", nicknames));
+        statement.setArray(5, connection.createArrayOf("varchar", passwordHashes));
+        statement.setString(6, UserRole.USER.name());
+        statement.setString(7, UserStatus.ACTIVE.name());
+        statement.setString(8, AccountEntity.LOCAL_PROVIDER);
+        return statement;
+    }
+
+    public record NewLocalUser(UUID id, long accountId, String email, String nickname, String passwordHash) {
+    }
+}
@@ -1,14 +1,25 @@
 package com.example.auth.repository;
 
+import com.example.auth.domain.user.AuthUserView;
 import com.example.auth.domain.user.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<UserEntity, UUID> {
 
-    Optional<UserEntity> findByEmail(String email);
+    @Query("select new com.example.auth.domain.user.AuthUserView(u.id, u.email, u.role, u.status) from UserEntity u where u.id = :id")
+    Optional<AuthUserView> findAuthViewById(@Param("id") UUID id);
 
-    boolean existsByEmail(String email);
+    @Query("select new com.example.auth.domain.user.AuthUserView(u.id, u.email, u.role, u.status) from UserEntity u where u.id in :ids")
+    List<AuthUserView> findAuthViewsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // uk_users_email 인덱스가 lower(email) 기준이므로 같은 식으로 조회해야 인덱스를 탄다.
+    @Query("select u from UserEntity u where lower(u.email) = lower(:email)")
+    Optional<UserEntity> findByEmail(@Param("email") String email);
 }
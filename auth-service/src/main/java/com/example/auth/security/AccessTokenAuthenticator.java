@@ -0,0 +1,164 @@
+package com.example.auth.security;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+import com.example.auth.exception.ApiException;
+import com.example.auth.exception.AuthFailureException;
+import com.example.auth.exception.AuthFailureReason;
+import com.example.auth.service.UserStatusCache;
+import com.example.auth.service.TokenRevocationService;
+import com.example.auth.service.UserStatusVersionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// JwtAuthenticationFilter와 AuthService.validate가 공유하는 액세스 토큰 인증 절차.
+@Component
+public class AccessTokenAuthenticator {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserStatusCache userStatusCache;
+    private final UserStatusVersionService userStatusVersionService;
+    private final TokenRevocationService tokenRevocationService;
+    private final ValidationMode validationMode;
+
+    public AccessTokenAuthenticator(VerifiedTokenCache verifiedTokenCache,
+                                    UserStatusCache userStatusCache,
+                                    UserStatusVersionService userStatusVersionService,
+                                    TokenRevocationService tokenRevocationService,
+                                    @Value("${security.validate.mode}") ValidationMode validationMode) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.userStatusCache = userStatusCache;
+        this.userStatusVersionService = userStatusVersionService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.validationMode = validationMode;
+    }
+
+    public AuthUserView authenticate(String token) {
+        VerifiedToken verified = verifyAccessToken(token);
+        AuthUserView user = validationMode == ValidationMode.STATELESS
+                ? fromClaims(verified, userStatusVersionService.cachedVersion(verified.userId()))
+                : userStatusCache.get(verified.userId());
+        return ensureActive(user);
+    }
+
+    // 논블로킹 경로. 서명 검증(CPU)은 호출 스레드에서 하고, Redis는 리액티브 Lettuce로 조회한다.
+    // DATABASE 모드에서 캐시에 없는 사용자만 JPA 조회를 boundedElastic 스레드로 넘긴다.
+    public Mono<AuthUserView> authenticateAsync(String token) {
+        VerifiedToken verified;
+        try {
+            verified = verifyAccessTokenSignature(token);
+        } catch (ApiException ex) {
+            return Mono.error(ex);
+        }
+        return tokenRevocationService.isRevokedAsync(verified)
+                .flatMap(revoked -> revoked ? Mono.error(revoked()) : loadUserAsync(verified))
+                .map(this::ensureActive);
+    }
+
+    // 토큰마다 서명은 한 번씩 검증하되, 사용자 조회는 캐시에 없는 사용자만 모아 한 번에 처리한다.
+    public List<AuthenticationResult> authenticateAll(List<String> tokens) {
+        List<VerifiedToken> verifiedTokens = new ArrayList<>(tokens.size());
+        List<AuthenticationResult> results = new ArrayList<>(tokens.size());
+        Set<UUID> userIds = new HashSet<>();
+        for (String token : tokens) {
+            try {
+                VerifiedToken verified = verifyAccessToken(token);
+                verifiedTokens.add(verified);
+                userIds.add(verified.userId());
+                results.add(null);
+            } catch (ApiException ex) {
+                verifiedTokens.add(null);
+                results.add(AuthenticationResult.failure(ex));
+            }
+        }
+
+        Map<UUID, Long> versions = validationMode == ValidationMode.STATELESS
+                ? userStatusVersionService.cachedVersions(userIds)
+                : Map.of();
+        Map<UUID, AuthUserView> users = validationMode == ValidationMode.DATABASE
+                ? userStatusCache.getAll(userIds)
+                : Map.of();
+
+        for (int i = 0; i < verifiedTokens.size(); i++) {
+            VerifiedToken verified = verifiedTokens.get(i);
+            if (verified == null) {
+                continue;
+            }
+            try {
+                AuthUserView user = validationMode == ValidationMode.STATELESS
+                        ? fromClaims(verified, versions.getOrDefault(verified.userId(), 0L))
+                        : users.get(verified.userId());
+                if (user == null) {
+                    throw new ApiException(HttpStatus.NOT_FOUND, "User not found");
+                }
+                results.set(i, AuthenticationResult.success(ensureActive(user)));
+            } catch (ApiException ex) {
+                results.set(i, AuthenticationResult.failure(ex));
+            }
+        }
+        return results;
+    }
+
+    private VerifiedToken verifyAccessToken(String token) {
+        VerifiedToken verified = verifyAccessTokenSignature(token);
+        if (tokenRevocationService.isRevoked(verified)) {
+            throw revoked();
+        }
+        return verified;
+    }
+
+    private VerifiedToken verifyAccessTokenSignature(String token) {
+        VerifiedToken verified = verifiedTokenCache.verify(token);
+        if (!verified.isAccessToken()) {
+            throw new AuthFailureException(HttpStatus.UNAUTHORIZED, "Access token required", AuthFailureReason.WRONG_TYPE);
+        }
+        return verified;
+    }
+
+    private Mono<AuthUserView> loadUserAsync(VerifiedToken verified) {
+        if (validationMode == ValidationMode.STATELESS) {
+            return userStatusVersionService.cachedVersionAsync(verified.userId())
+                    .map(version -> fromClaims(verified, version));
+        }
+        AuthUserView cached = userStatusCache.getIfPresent(verified.userId());
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return Mono.fromCallable(() -> userStatusCache.get(verified.userId()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private AuthFailureException revoked() {
+        return new AuthFailureException(HttpStatus.UNAUTHORIZED, "Token revoked", AuthFailureReason.REVOKED);
+    }
+
+    private AuthUserView ensureActive(AuthUserView user) {
+        if (!user.isActive()) {
+            throw new AuthFailureException(HttpStatus.FORBIDDEN, "Inactive account", AuthFailureReason.INACTIVE);
+        }
+        return user;
+    }
+
+    private AuthUserView fromClaims(VerifiedToken verified, long currentStatusVersion) {
+        if (verified.statusVersion() < currentStatusVersion) {
+            throw new AuthFailureException(HttpStatus.UNAUTHORIZED, "Token invalidated by account change",
+                    AuthFailureReason.STALE_STATUS);
+        }
+        try {
+            return new AuthUserView(verified.userId(), verified.email(), UserRole.valueOf(verified.role()), UserStatus.ACTIVE);
+        } catch (RuntimeException ex) {
+            throw new AuthFailureException(HttpStatus.UNAUTHORIZED, "Invalid or expired token", AuthFailureReason.MALFORMED);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.auth.security;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.exception.ApiException;
+
+// 일괄 검증에서 토큰 하나의 결과. 성공 시 user, 실패 시 failure 중 하나만 채워진다.
+public record AuthenticationResult(
+        AuthUserView user,
+        ApiException failure
+) {
+
+    public static AuthenticationResult success(AuthUserView user) {
+        return new AuthenticationResult(user, null);
+    }
+
+    public static AuthenticationResult failure(ApiException failure) {
+        return new AuthenticationResult(null, failure);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
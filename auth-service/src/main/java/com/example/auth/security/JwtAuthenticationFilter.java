@@ -1,7 +1,6 @@
 package com.example.auth.security;
 
-import com.example.auth.domain.user.UserEntity;
-import com.example.auth.service.UserService;
+import com.example.auth.domain.user.AuthUserView;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,22 +8,18 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserService userService;
+    private final AccessTokenAuthenticator accessTokenAuthenticator;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserService userService) {
-        this.jwtTokenProvider = jwtTokenProvider;
-        this.userService = userService;
+    public JwtAuthenticationFilter(AccessTokenAuthenticator accessTokenAuthenticator) {
+        this.accessTokenAuthenticator = accessTokenAuthenticator;
     }
 
     @Override
@@ -33,20 +28,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
         if (token != null) {
-            jwtTokenProvider.validateToken(token);
-            if (jwtTokenProvider.isAccessToken(token)) {
-                UUID userId = jwtTokenProvider.getUserId(token);
-                UserEntity user = userService.getById(userId);
-                UserPrincipal principal = UserPrincipal.from(user);
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+            AuthUserView user = accessTokenAuthenticator.authenticate(token);
+            UserPrincipal principal = UserPrincipal.from(user);
+            // 세션을 쓰지 않으므로 WebAuthenticationDetails(원격 주소/세션 ID)는 채우지 않는다.
+            SecurityContextHolder.getContext().setAuthentication(
+                    UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
         }
         filterChain.doFilter(request, response);
     }
 
+    // 공개 경로와 검증 엔드포인트에서는 토큰 검증과 SecurityContext 구성을 하지 않는다.
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicEndpoints.MATCHER.matches(request);
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
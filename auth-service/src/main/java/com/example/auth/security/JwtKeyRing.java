@@ -0,0 +1,158 @@
+package com.example.auth.security;
+
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 비대칭 서명 키 묶음. 디렉터리의 <kid>.key.pem(PKCS#8) / <kid>.pub.pem(X.509) 쌍을 주기적으로 다시 읽는다.
+// 새 키 파일은 activation-delay가 지난 뒤에 서명 키가 되므로, 그 사이 모든 인스턴스와 JWKS 소비자가 공개키를 먼저 받는다.
+// 이전 키는 파일을 지울 때까지 검증용으로 남는다.
+@Component
+public class JwtKeyRing {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private static final String PRIVATE_SUFFIX = ".key.pem";
+    private static final String PUBLIC_SUFFIX = ".pub.pem";
+
+    private final JwtSigningAlgorithm algorithm;
+    private final Path directory;
+    private final Duration activationDelay;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public JwtKeyRing(@Value("${security.jwt.algorithm}") JwtSigningAlgorithm algorithm,
+                      @Value("${security.jwt.keys.directory}") String directory,
+                      @Value("${security.jwt.keys.activation-delay}") Duration activationDelay) {
+        this.algorithm = algorithm;
+        this.directory = StringUtils.hasText(directory) ? Path.of(directory) : null;
+        this.activationDelay = activationDelay;
+        reload();
+    }
+
+    public JwtSigningAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public SigningKey signingKey() {
+        SigningKey active = snapshot.active();
+        if (active == null) {
+            throw new IllegalStateException("No JWT signing key is available for " + algorithm);
+        }
+        return active;
+    }
+
+    public PublicKey verificationKey(String kid) {
+        return snapshot.verificationKeys().get(kid);
+    }
+
+    public String jwksJson() {
+        return snapshot.jwksJson();
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.keys.reload-interval}", initialDelayString = "${security.jwt.keys.reload-interval}")
+    public void reload() {
+        if (!algorithm.isAsymmetric()) {
+            return;
+        }
+        if (directory == null) {
+            if (snapshot.active() == null) {
+                log.warn("security.jwt.keys.directory is not set; generating an ephemeral {} key. "
+                        + "Tokens will not verify across replicas or restarts.", algorithm);
+                KeyPair keyPair = algorithm.signatureAlgorithm().keyPair().build();
+                snapshot = Snapshot.of(List.of(new SigningKey("ephemeral-" + Instant.now().getEpochSecond(),
+                        keyPair.getPrivate(), keyPair.getPublic(), Instant.now())), activationDelay);
+            }
+            return;
+        }
+        try {
+            List<SigningKey> keys = loadKeys();
+            if (keys.isEmpty()) {
+                log.error("No JWT key pairs found in {}; keeping the previous key set", directory);
+                return;
+            }
+            snapshot = Snapshot.of(keys, activationDelay);
+        } catch (IOException | GeneralSecurityException ex) {
+            log.error("Failed to reload JWT keys from {}; keeping the previous key set", directory, ex);
+        }
+    }
+
+    private List<SigningKey> loadKeys() throws IOException, GeneralSecurityException {
+        KeyFactory keyFactory = KeyFactory.getInstance(algorithm.keyFactoryAlgorithm());
+        List<SigningKey> keys = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path privateFile : files.filter(path -> path.getFileName().toString().endsWith(PRIVATE_SUFFIX)).toList()) {
+                String fileName = privateFile.getFileName().toString();
+                String kid = fileName.substring(0, fileName.length() - PRIVATE_SUFFIX.length());
+                Path publicFile = privateFile.resolveSibling(kid + PUBLIC_SUFFIX);
+                if (!Files.exists(publicFile)) {
+                    log.warn("Skipping JWT key {}: {} is missing", kid, publicFile.getFileName());
+                    continue;
+                }
+                PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(readPem(privateFile)));
+                PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(readPem(publicFile)));
+                Instant createdAt = Files.getLastModifiedTime(privateFile).toInstant();
+                keys.add(new SigningKey(kid, privateKey, publicKey, createdAt));
+            }
+        }
+        return keys;
+    }
+
+    private byte[] readPem(Path file) throws IOException {
+        String body = Files.readString(file, StandardCharsets.US_ASCII)
+                .replaceAll("-----[A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+
+    public record SigningKey(String kid, PrivateKey privateKey, PublicKey publicKey, Instant createdAt) {
+    }
+
+    private record Snapshot(SigningKey active, Map<String, PublicKey> verificationKeys, String jwksJson) {
+
+        static final Snapshot EMPTY = new Snapshot(null, Map.of(), "{\"keys\":[]}");
+
+        static Snapshot of(List<SigningKey> keys, Duration activationDelay) {
+            Instant activationCutoff = Instant.now().minus(activationDelay);
+            Comparator<SigningKey> newestFirst = Comparator.comparing(SigningKey::createdAt).reversed();
+            SigningKey active = keys.stream()
+                    .filter(key -> !key.createdAt().isAfter(activationCutoff))
+                    .min(newestFirst)
+                    .orElseGet(() -> keys.stream().min(newestFirst).orElseThrow());
+            Map<String, PublicKey> verificationKeys = keys.stream()
+                    .collect(Collectors.toUnmodifiableMap(SigningKey::kid, SigningKey::publicKey));
+            String jwks = keys.stream()
+                    .map(key -> {
+                        PublicJwk<PublicKey> jwk = Jwks.builder().key(key.publicKey()).id(key.kid()).publicKeyUse("sig").build();
+                        return Jwks.json(jwk);
+                    })
+                    .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+            return new Snapshot(active, verificationKeys, jwks);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.auth.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+public enum JwtSigningAlgorithm {
+    // 공유 비밀키(security.jwt.secret) 기반. 다른 서비스는 /auth/validate로 검증을 위임해야 한다.
+    HS512(null, null),
+    // 비대칭 서명. 공개키를 JWKS로 배포해 다른 서비스가 로컬에서 검증할 수 있다.
+    RS256(Jwts.SIG.RS256, "RSA"),
+    EDDSA(Jwts.SIG.EdDSA, "Ed25519");
+
+    private final SignatureAlgorithm signatureAlgorithm;
+    private final String keyFactoryAlgorithm;
+
+    JwtSigningAlgorithm(SignatureAlgorithm signatureAlgorithm, String keyFactoryAlgorithm) {
+        this.signatureAlgorithm = signatureAlgorithm;
+        this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+    }
+
+    public boolean isAsymmetric() {
+        return signatureAlgorithm != null;
+    }
+
+    public SignatureAlgorithm signatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+
+    public String keyFactoryAlgorithm() {
+        return keyFactoryAlgorithm;
+    }
+}
@@ -1,18 +1,31 @@
 package com.example.auth.security;
 
-import com.example.auth.domain.user.UserEntity;
-import com.example.auth.exception.ApiException;
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.exception.AuthFailureException;
+import com.example.auth.exception.AuthFailureReason;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PublicKey;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
 
@@ -20,87 +33,154 @@ import java.util.UUID;
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtKeyRing keyRing;
+    // 비대칭 알고리즘 사용 중 kid 없는 HS512 토큰을 받아들이는 마지막 시각. null이면 받지 않는다.
+    private final Instant legacyHmacAcceptedUntil;
+    private final JwtParser jwtParser;
     private final long accessTokenValiditySeconds;
     private final long refreshTokenValiditySeconds;
+    private final Timer parseTimer;
 
     public JwtTokenProvider(@Value("${security.jwt.secret}") String secret,
                             @Value("${security.jwt.access-token-validity-seconds}") long accessTokenValiditySeconds,
-                            @Value("${security.jwt.refresh-token-validity-seconds}") long refreshTokenValiditySeconds) {
+                            @Value("${security.jwt.refresh-token-validity-seconds}") long refreshTokenValiditySeconds,
+                            @Value("${security.jwt.accept-legacy-hmac-until:}") String acceptLegacyHmacUntil,
+                            JwtKeyRing keyRing,
+                            MeterRegistry meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.keyRing = keyRing;
+        this.legacyHmacAcceptedUntil = StringUtils.hasText(acceptLegacyHmacUntil)
+                ? Instant.parse(acceptLegacyHmacUntil.trim())
+                : null;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new KidKeyLocator())
+                .build();
         this.accessTokenValiditySeconds = accessTokenValiditySeconds;
         this.refreshTokenValiditySeconds = refreshTokenValiditySeconds;
+        this.parseTimer = Timer.builder("auth.jwt.parse")
+                .description("Signature verification and claim decoding of a JWT")
+                .register(meterRegistry);
     }
 
-    public String createAccessToken(UserEntity user) {
+    public String createAccessToken(AuthUserView user, long statusVersion) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + accessTokenValiditySeconds * 1000);
-        return Jwts.builder()
-                .setSubject(user.getId().toString())
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(user.id().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .claim("email", user.getEmail())
-                .claim("role", user.getRole().name())
-                .claim("token_type", "access")
-                .signWith(secretKey, SignatureAlgorithm.HS512)
-                .compact();
+                .id(UUID.randomUUID().toString())
+                .claim("email", user.email())
+                .claim("role", user.role().name())
+                .claim("sv", statusVersion)
+                .claim("token_type", VerifiedToken.ACCESS_TYPE);
+        return sign(builder);
     }
 
-    public String createRefreshToken(UUID userId) {
+    // 같은 기기(로그인 세션)에서 회전되는 리프레시 토큰은 같은 familyId(fid)를 공유하고, 토큰마다 고유한 jti를 가진다.
+    public String createRefreshToken(UUID userId, String familyId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + refreshTokenValiditySeconds * 1000);
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(userId.toString())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .claim("token_type", "refresh")
-                .signWith(secretKey, SignatureAlgorithm.HS512)
-                .compact();
+                .id(UUID.randomUUID().toString())
+                .claim("fid", familyId)
+                .claim("token_type", VerifiedToken.REFRESH_TYPE);
+        return sign(builder);
+    }
+
+    // 서명 검증과 클레임 디코딩을 한 번만 수행하고, 이후 판단에 필요한 값을 모두 담아 반환한다.
+    public VerifiedToken verify(String token) {
+        Claims claims = parseClaims(token);
+        try {
+            return new VerifiedToken(
+                    UUID.fromString(claims.getSubject()),
+                    stringClaim(claims, "token_type"),
+                    claims.getId(),
+                    stringClaim(claims, "fid"),
+                    stringClaim(claims, "email"),
+                    stringClaim(claims, "role"),
+                    longClaim(claims, "sv"),
+                    claims.getIssuedAt().toInstant(),
+                    claims.getExpiration().toInstant());
+        } catch (RuntimeException ex) {
+            throw invalidToken(AuthFailureReason.MALFORMED);
+        }
     }
 
-    public UUID getUserId(String token) {
-        return UUID.fromString(parseClaims(token).getSubject());
+    public Duration getRefreshTokenTtl() {
+        return Duration.ofSeconds(refreshTokenValiditySeconds);
     }
 
-    public String getEmail(String token) {
-        Object email = parseClaims(token).get("email");
-        return email != null ? email.toString() : null;
+    public long getAccessTokenValiditySeconds() {
+        return accessTokenValiditySeconds;
     }
 
-    public String getRole(String token) {
-        Object role = parseClaims(token).get("role");
-        return role != null ? role.toString() : null;
+    private Claims parseClaims(String token) {
+        return parseTimer.record(() -> {
+            try {
+                return jwtParser.parseSignedClaims(token).getPayload();
+            } catch (ExpiredJwtException ex) {
+                throw invalidToken(AuthFailureReason.EXPIRED);
+            } catch (SignatureException ex) {
+                throw invalidToken(AuthFailureReason.BAD_SIGNATURE);
+            } catch (Exception ex) {
+                throw invalidToken(AuthFailureReason.MALFORMED);
+            }
+        });
     }
 
-    public boolean validateToken(String token) {
-        parseClaims(token);
-        return true;
+    private String sign(JwtBuilder builder) {
+        if (!keyRing.getAlgorithm().isAsymmetric()) {
+            return builder.signWith(secretKey, SignatureAlgorithm.HS512).compact();
+        }
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+        return builder.header().keyId(signingKey.kid()).and()
+                .signWith(signingKey.privateKey(), keyRing.getAlgorithm().signatureAlgorithm())
+                .compact();
     }
 
-    public boolean isRefreshToken(String token) {
-        return "refresh".equalsIgnoreCase(String.valueOf(parseClaims(token).get("token_type")));
+    private boolean acceptsHmac() {
+        if (!keyRing.getAlgorithm().isAsymmetric()) {
+            return true;
+        }
+        return legacyHmacAcceptedUntil != null && Instant.now().isBefore(legacyHmacAcceptedUntil);
     }
 
-    public boolean isAccessToken(String token) {
-        return "access".equalsIgnoreCase(String.valueOf(parseClaims(token).get("token_type")));
+    private AuthFailureException invalidToken(AuthFailureReason reason) {
+        return new AuthFailureException(HttpStatus.UNAUTHORIZED, "Invalid or expired token", reason);
     }
 
-    public Duration getRefreshTokenTtl() {
-        return Duration.ofSeconds(refreshTokenValiditySeconds);
+    private long longClaim(Claims claims, String name) {
+        Object value = claims.get(name);
+        return value instanceof Number number ? number.longValue() : 0L;
     }
 
-    public long getAccessTokenValiditySeconds() {
-        return accessTokenValiditySeconds;
+    private String stringClaim(Claims claims, String name) {
+        Object value = claims.get(name);
+        return value != null ? value.toString() : null;
     }
 
-    private Claims parseClaims(String token) {
-        try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-        } catch (Exception ex) {
-            throw new ApiException(HttpStatus.UNAUTHORIZED, "Invalid or expired token");
+    // kid가 없는 토큰은 HS512(공유 비밀키)로 발급된 토큰이다. 비대칭 알고리즘으로 전환한 뒤에는 공유 비밀키만으로
+    // 토큰을 위조할 수 있으므로, accept-legacy-hmac-until 이전에만 전환 이전 토큰으로 보고 검증한다.
+    private final class KidKeyLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            String kid = header.getKeyId();
+            if (kid == null) {
+                if (acceptsHmac()) {
+                    return secretKey;
+                }
+                throw new SignatureException("Token without key id is no longer accepted");
+            }
+            PublicKey publicKey = keyRing.verificationKey(kid);
+            if (publicKey == null) {
+                throw new SignatureException("Unknown signing key id: " + kid);
+            }
+            return publicKey;
         }
     }
 }
@@ -0,0 +1,35 @@
+package com.example.auth.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+
+// 인증 없이 열려 있는 경로. SecurityConfig의 permitAll과 JwtAuthenticationFilter의 건너뛰기 판단이 같은 목록을 쓴다.
+// 검증 엔드포인트는 토큰을 직접 검증하므로 필터에서 한 번 더 검증하지 않는다.
+public final class PublicEndpoints {
+
+    public static final RequestMatcher MATCHER = new OrRequestMatcher(
+            antMatcher("/swagger-ui.html"),
+            antMatcher("/swagger-ui/**"),
+            antMatcher("/swagger-ui*"),
+            antMatcher("/swagger-ui*/**"),
+            antMatcher("/v3/api-docs"),
+            antMatcher("/v3/api-docs/**"),
+            antMatcher(HttpMethod.POST, "/api/v1/auth/signup"),
+            antMatcher(HttpMethod.POST, "/api/v1/auth/login"),
+            antMatcher(HttpMethod.POST, "/api/v1/auth/refresh"),
+            antMatcher(HttpMethod.GET, "/api/v1/auth/validate"),
+            antMatcher(HttpMethod.GET, "/auth/validate"),
+            antMatcher(HttpMethod.GET, "/auth/validate/reactive"),
+            antMatcher(HttpMethod.GET, "/auth/validate/headers"),
+            antMatcher(HttpMethod.POST, "/auth/validate/batch"),
+            antMatcher(HttpMethod.GET, "/actuator/health/**"),
+            antMatcher(HttpMethod.GET, "/actuator/prometheus"),
+            antMatcher(HttpMethod.GET, "/.well-known/jwks.json")
+    );
+
+    private PublicEndpoints() {
+    }
+}
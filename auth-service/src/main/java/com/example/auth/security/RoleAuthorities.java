@@ -0,0 +1,46 @@
+package com.example.auth.security;
+
+import com.example.auth.domain.user.enums.UserRole;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 역할별 GrantedAuthority 목록을 한 번만 만들어 모든 UserPrincipal이 공유한다.
+// 역할 계층을 미리 펼쳐 두므로(ADMIN은 ROLE_USER도 가짐) 인가 시점에는 문자열 조합이나 계층 탐색이 없다.
+// RoleHierarchy를 빈으로 등록하면 Spring Security가 요청마다 다시 펼치므로 빈으로 노출하지 않는다.
+public final class RoleAuthorities {
+
+    // 새 역할을 추가하면 여기에 "ROLE_상위 > ROLE_하위" 줄을 더한다.
+    static final String HIERARCHY = "ROLE_ADMIN > ROLE_USER";
+
+    private static final Map<UserRole, List<GrantedAuthority>> BY_ROLE = expand(hierarchy());
+
+    private RoleAuthorities() {
+    }
+
+    public static List<GrantedAuthority> of(UserRole role) {
+        return BY_ROLE.get(role);
+    }
+
+    private static RoleHierarchy hierarchy() {
+        RoleHierarchyImpl hierarchy = new RoleHierarchyImpl();
+        hierarchy.setHierarchy(HIERARCHY);
+        return hierarchy;
+    }
+
+    private static Map<UserRole, List<GrantedAuthority>> expand(RoleHierarchy hierarchy) {
+        Map<UserRole, List<GrantedAuthority>> byRole = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            Collection<? extends GrantedAuthority> reachable =
+                    hierarchy.getReachableGrantedAuthorities(List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+            byRole.put(role, List.copyOf(reachable));
+        }
+        return byRole;
+    }
+}
@@ -1,15 +1,14 @@
 package com.example.auth.security;
 
-import com.example.auth.domain.user.UserEntity;
+import com.example.auth.domain.user.AuthUserView;
 import com.example.auth.domain.user.enums.UserRole;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.UUID;
 
+// 검증된 토큰(또는 캐시된 AuthUserView)에서 바로 만드는 인증 주체. 엔티티를 로딩하지 않는다.
 public class UserPrincipal implements UserDetails {
 
     private final UUID id;
@@ -24,8 +23,8 @@ public class UserPrincipal implements UserDetails {
         this.role = role;
     }
 
-    public static UserPrincipal from(UserEntity user) {
-        return new UserPrincipal(user.getId(), user.getEmail(), user.getRole());
+    public static UserPrincipal from(AuthUserView user) {
+        return new UserPrincipal(user.id(), user.email(), user.role());
     }
 
     public UUID getId() {
@@ -34,7 +33,7 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+        return RoleAuthorities.of(role);
     }
 
     @Override
@@ -0,0 +1,8 @@
+package com.example.auth.security;
+
+public enum ValidationMode {
+    // 토큰 검증 후 매 요청마다 DB에서 사용자 상태를 조회한다.
+    DATABASE,
+    // 토큰 클레임만으로 응답하고, 상태 변경은 사용자별 상태 버전으로만 확인한다.
+    STATELESS
+}
@@ -0,0 +1,28 @@
+package com.example.auth.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record VerifiedToken(
+        UUID userId,
+        String tokenType,
+        String tokenId,
+        String familyId,
+        String email,
+        String role,
+        long statusVersion,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public static final String ACCESS_TYPE = "access";
+    public static final String REFRESH_TYPE = "refresh";
+
+    public boolean isAccessToken() {
+        return ACCESS_TYPE.equalsIgnoreCase(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH_TYPE.equalsIgnoreCase(tokenType);
+    }
+}
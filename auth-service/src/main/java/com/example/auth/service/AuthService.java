@@ -1,23 +1,36 @@
 package com.example.auth.service;
 
 import com.example.auth.domain.account.AccountEntity;
+import com.example.auth.domain.account.LoginCredentials;
+import com.example.auth.domain.user.AuthUserView;
 import com.example.auth.domain.user.UserEntity;
-import com.example.auth.domain.user.enums.UserStatus;
 import com.example.auth.exception.ApiException;
+import com.example.auth.exception.AuthFailureException;
+import com.example.auth.exception.AuthFailureReason;
+import com.example.auth.exception.RetryLaterException;
+import com.example.auth.metrics.AuthMetrics;
 import com.example.auth.repository.AccountRepository;
+import com.example.auth.security.AccessTokenAuthenticator;
+import com.example.auth.security.AuthenticationResult;
 import com.example.auth.security.JwtTokenProvider;
+import com.example.auth.security.VerifiedToken;
+import com.example.auth.web.dto.BatchValidateResponse;
+import com.example.auth.web.dto.BatchValidateResult;
 import com.example.auth.web.dto.LoginRequest;
+import com.example.auth.web.dto.LogoutRequest;
 import com.example.auth.web.dto.RefreshRequest;
 import com.example.auth.web.dto.SignupRequest;
 import com.example.auth.web.dto.TokenResponse;
 import com.example.auth.web.dto.UserResponse;
 import com.example.auth.web.dto.ValidateResponse;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -26,95 +39,219 @@ public class AuthService {
 
     private final UserService userService;
     private final AccountRepository accountRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
+    private final AccessTokenAuthenticator accessTokenAuthenticator;
+    private final UserStatusVersionService userStatusVersionService;
+    private final TokenRevocationService tokenRevocationService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final AuthMetrics authMetrics;
 
     public AuthService(UserService userService,
                        AccountRepository accountRepository,
-                       PasswordEncoder passwordEncoder,
+                       PasswordHashingService passwordHashingService,
                        JwtTokenProvider jwtTokenProvider,
-                       RefreshTokenService refreshTokenService) {
+                       RefreshTokenService refreshTokenService,
+                       AccessTokenAuthenticator accessTokenAuthenticator,
+                       UserStatusVersionService userStatusVersionService,
+                       TokenRevocationService tokenRevocationService,
+                       LoginRateLimiter loginRateLimiter,
+                       AuthMetrics authMetrics) {
         this.userService = userService;
         this.accountRepository = accountRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.jwtTokenProvider = jwtTokenProvider;
         this.refreshTokenService = refreshTokenService;
+        this.accessTokenAuthenticator = accessTokenAuthenticator;
+        this.userStatusVersionService = userStatusVersionService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.loginRateLimiter = loginRateLimiter;
+        this.authMetrics = authMetrics;
     }
 
-    @Transactional
+    // 해시 계산 동안 DB 트랜잭션(커넥션)을 잡지 않도록 트랜잭션 밖에서 실행하고, 저장만 UserService의 트랜잭션으로 처리한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse signup(SignupRequest request) {
         String normalizedEmail = normalizeEmail(request.email());
-        if (userService.existsByEmail(normalizedEmail)) {
-            throw new ApiException(HttpStatus.CONFLICT, "Email already registered");
-        }
+        String passwordHash = passwordHashingService.encode(request.password());
         UserEntity user = UserEntity.create(normalizedEmail, request.nickname().trim());
-        AccountEntity account = AccountEntity.ofLocal(normalizedEmail, passwordEncoder.encode(request.password()));
+        AccountEntity account = AccountEntity.ofLocal(normalizedEmail, passwordHash);
         user.addAccount(account);
-        UserEntity saved = userService.save(user);
+        UserEntity saved = userService.register(user);
         return new UserResponse(saved.getId(), saved.getEmail(), saved.getNickname(), saved.getRole().name());
     }
 
-    @Transactional
-    public TokenResponse login(LoginRequest request) {
-        String normalizedEmail = normalizeEmail(request.email());
-        AccountEntity account = accountRepository.findByProviderAndProviderId(AccountEntity.LOCAL_PROVIDER, normalizedEmail)
-                .orElseThrow(() -> new ApiException(HttpStatus.UNAUTHORIZED, "Invalid credentials"));
-        if (!passwordEncoder.matches(request.password(), account.getPasswordHash())) {
-            throw new ApiException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
-        }
-        return issueTokens(account.getUser());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenResponse login(LoginRequest request, String clientAddress) {
+        return authMetrics.record("login", () -> {
+            loginRateLimiter.check(clientAddress, normalizeEmail(request.email()));
+            return authenticate(request);
+        });
     }
 
     @Transactional
     public TokenResponse refresh(RefreshRequest request) {
-        String refreshToken = request.refreshToken();
-        jwtTokenProvider.validateToken(refreshToken);
-        if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
-            throw new ApiException(HttpStatus.UNAUTHORIZED, "Invalid refresh token type");
+        return authMetrics.record("refresh", () -> rotate(request));
+    }
+
+    // 현재 액세스 토큰을 폐기하고, 리프레시 토큰이 함께 오면 그 기기의 패밀리도 끊는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(String authorizationHeader, LogoutRequest request) {
+        VerifiedToken accessToken = verifyAccessToken(extractToken(authorizationHeader));
+        tokenRevocationService.revokeToken(accessToken.tokenId(), accessToken.expiresAt());
+        if (request == null || request.refreshToken() == null || request.refreshToken().isBlank()) {
+            return;
         }
-        UUID userId = jwtTokenProvider.getUserId(refreshToken);
-        if (!refreshTokenService.matches(userId, refreshToken)) {
-            throw new ApiException(HttpStatus.UNAUTHORIZED, "Refresh token mismatch");
+        VerifiedToken refreshToken = jwtTokenProvider.verify(request.refreshToken());
+        if (refreshToken.isRefreshToken() && refreshToken.familyId() != null
+                && refreshToken.userId().equals(accessToken.userId())) {
+            refreshTokenService.revokeFamily(refreshToken.userId(), refreshToken.familyId());
         }
-        UserEntity user = userService.getById(userId);
-        return issueTokens(user);
     }
 
+    // 모든 기기에서 로그아웃: 발급된 액세스 토큰과 리프레시 토큰 패밀리를 모두 폐기한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logoutAll(String authorizationHeader) {
+        VerifiedToken accessToken = verifyAccessToken(extractToken(authorizationHeader));
+        tokenRevocationService.revokeUser(accessToken.userId());
+        tokenRevocationService.revokeToken(accessToken.tokenId(), accessToken.expiresAt());
+        refreshTokenService.delete(accessToken.userId());
+    }
+
+    // 검증 경로는 DB 트랜잭션을 열지 않는다. 읽기 전용 트랜잭션도 커넥션을 읽기 전용으로 바꾸려고 풀에서 커넥션을 꺼낸다.
+    // DATABASE 모드에서 캐시에 없는 사용자만 UserService의 트랜잭션으로 조회한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ValidateResponse validate(String authorizationHeader) {
-        String token = extractToken(authorizationHeader);
-        jwtTokenProvider.validateToken(token);
-        if (!jwtTokenProvider.isAccessToken(token)) {
-            throw new ApiException(HttpStatus.UNAUTHORIZED, "Access token required");
+        AuthUserView user = validateUser(authorizationHeader);
+        return new ValidateResponse(user.id(), user.email(), user.role().name());
+    }
+
+    // 응답 DTO를 만들지 않는 검증. 헤더 전용 응답이 캐시된 헤더 값과 함께 사용한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AuthUserView validateUser(String authorizationHeader) {
+        return authMetrics.record("validate",
+                () -> accessTokenAuthenticator.authenticate(extractToken(authorizationHeader)));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchValidateResponse validateBatch(List<String> tokens) {
+        return authMetrics.record("validate_batch", () -> {
+            List<AuthenticationResult> outcomes = accessTokenAuthenticator.authenticateAll(tokens);
+            List<BatchValidateResult> results = new ArrayList<>(outcomes.size());
+            for (int i = 0; i < outcomes.size(); i++) {
+                AuthenticationResult outcome = outcomes.get(i);
+                if (outcome.isSuccess()) {
+                    AuthUserView user = outcome.user();
+                    results.add(BatchValidateResult.valid(i, new ValidateResponse(user.id(), user.email(), user.role().name())));
+                } else {
+                    ApiException failure = outcome.failure();
+                    results.add(BatchValidateResult.invalid(i, failure.getStatus().value(), failure.getMessage()));
+                }
+            }
+            return new BatchValidateResponse(results);
+        });
+    }
+
+    private TokenResponse authenticate(LoginRequest request) {
+        String normalizedEmail = normalizeEmail(request.email());
+        LoginCredentials credentials = accountRepository.findLoginCredentials(AccountEntity.LOCAL_PROVIDER, normalizedEmail)
+                .orElseThrow(this::invalidCredentials);
+        // 상태 버전은 자격 증명 조회 직후, 해시 검증보다 먼저 읽는다. 조회한 상태와 버전 사이에는 Redis 왕복 한 번만 남아
+        // 그 사이에 정지된 사용자가 새 버전을 담은 토큰을 받을 여지가 가장 작다. 사용자 행은 다시 읽지 않는다.
+        long statusVersion = userStatusVersionService.currentVersion(credentials.userId());
+        if (!passwordHashingService.matches(request.password(), credentials.passwordHash())) {
+            throw invalidCredentials();
         }
-        UUID userId = jwtTokenProvider.getUserId(token);
-        UserEntity user = userService.getById(userId);
-        ensureActive(user);
-        return new ValidateResponse(user.getId(), user.getEmail(), user.getRole().name());
+        upgradePasswordHashIfNeeded(credentials, request.password());
+        return issueTokens(credentials.toUserView(), statusVersion);
     }
 
-    private TokenResponse issueTokens(UserEntity user) {
+    // 비용이나 알고리즘이 현재 설정보다 낮은 해시는 평문을 알 수 있는 로그인 성공 시점에 다시 만든다.
+    private void upgradePasswordHashIfNeeded(LoginCredentials credentials, String rawPassword) {
+        if (!passwordHashingService.needsUpgrade(credentials.passwordHash())) {
+            return;
+        }
+        try {
+            String upgradedHash = passwordHashingService.rehash(rawPassword);
+            accountRepository.upgradePasswordHash(credentials.accountId(), credentials.passwordHash(), upgradedHash);
+        } catch (RetryLaterException ex) {
+            // 해시 풀이 바쁘면 로그인은 그대로 진행하고 다음 로그인에서 다시 시도한다.
+        }
+    }
+
+    private TokenResponse rotate(RefreshRequest request) {
+        String presentedToken = request.refreshToken();
+        VerifiedToken verified = jwtTokenProvider.verify(presentedToken);
+        if (!verified.isRefreshToken()) {
+            throw new AuthFailureException(HttpStatus.UNAUTHORIZED, "Invalid refresh token type", AuthFailureReason.WRONG_TYPE);
+        }
+        UUID userId = verified.userId();
+        if (verified.familyId() == null) {
+            // 패밀리 도입 전 토큰: 저장된 값과 일치하면 새 패밀리로 옮긴다.
+            if (!refreshTokenService.consumeLegacy(userId, presentedToken)) {
+                throw refreshMismatch();
+            }
+            long statusVersion = userStatusVersionService.currentVersion(userId);
+            return issueTokens(userService.getAuthView(userId), statusVersion);
+        }
+        long statusVersion = userStatusVersionService.currentVersion(userId);
+        AuthUserView user = userService.getAuthView(userId);
         ensureActive(user);
-        String accessToken = jwtTokenProvider.createAccessToken(user);
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+        String refreshToken = jwtTokenProvider.createRefreshToken(userId, verified.familyId());
         Duration ttl = jwtTokenProvider.getRefreshTokenTtl();
-        refreshTokenService.store(user.getId(), refreshToken, ttl);
-        return new TokenResponse(accessToken, refreshToken, jwtTokenProvider.getAccessTokenValiditySeconds());
+        switch (refreshTokenService.rotate(userId, verified.familyId(), presentedToken, refreshToken, ttl)) {
+            case REUSED -> throw new AuthFailureException(HttpStatus.UNAUTHORIZED, "Refresh token reuse detected",
+                    AuthFailureReason.REUSED);
+            case UNKNOWN -> throw refreshMismatch();
+            case ROTATED -> {
+            }
+        }
+        return new TokenResponse(jwtTokenProvider.createAccessToken(user, statusVersion), refreshToken,
+                jwtTokenProvider.getAccessTokenValiditySeconds());
     }
 
-    private void ensureActive(UserEntity user) {
-        if (user.getStatus() != UserStatus.ACTIVE) {
-            throw new ApiException(HttpStatus.FORBIDDEN, "Inactive account");
+    // 로그인마다 새 패밀리를 시작한다. 기기별 세션이 서로의 리프레시 토큰을 덮어쓰지 않는다.
+    // statusVersion은 user를 읽기 전에 읽은 값이어야 한다. 그 사이 상태가 바뀌었다면 토큰이 이전 버전을 담아 거부된다.
+    private TokenResponse issueTokens(AuthUserView user, long statusVersion) {
+        ensureActive(user);
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.id(), familyId);
+        refreshTokenService.startFamily(user.id(), familyId, refreshToken, jwtTokenProvider.getRefreshTokenTtl());
+        return new TokenResponse(jwtTokenProvider.createAccessToken(user, statusVersion), refreshToken,
+                jwtTokenProvider.getAccessTokenValiditySeconds());
+    }
+
+    private VerifiedToken verifyAccessToken(String token) {
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+        if (!verified.isAccessToken()) {
+            throw new AuthFailureException(HttpStatus.UNAUTHORIZED, "Access token required", AuthFailureReason.WRONG_TYPE);
+        }
+        return verified;
+    }
+
+    private void ensureActive(AuthUserView user) {
+        if (!user.isActive()) {
+            throw new AuthFailureException(HttpStatus.FORBIDDEN, "Inactive account", AuthFailureReason.INACTIVE);
         }
     }
 
-    private String extractToken(String header) {
+    static String extractToken(String header) {
         if (header == null || !header.startsWith("Bearer ")) {
-            throw new ApiException(HttpStatus.UNAUTHORIZED, "Authorization header missing");
+            throw new AuthFailureException(HttpStatus.UNAUTHORIZED, "Authorization header missing",
+                    AuthFailureReason.MISSING_TOKEN);
         }
         return header.substring(7);
     }
 
+    private AuthFailureException refreshMismatch() {
+        return new AuthFailureException(HttpStatus.UNAUTHORIZED, "Refresh token mismatch", AuthFailureReason.MISMATCH);
+    }
+
+    private AuthFailureException invalidCredentials() {
+        return new AuthFailureException(HttpStatus.UNAUTHORIZED, "Invalid credentials", AuthFailureReason.BAD_CREDENTIALS);
+    }
+
     private String normalizeEmail(String email) {
         if (email == null) {
             throw new ApiException(HttpStatus.BAD_REQUEST, "Email cannot be null");
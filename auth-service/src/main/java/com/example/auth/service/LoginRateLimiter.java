@@ -0,0 +1,131 @@
+package com.example.auth.service;
+
+import com.example.auth.exception.RetryLaterException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+// 로그인 시도를 IP/계정 단위로 제한해 비밀번호 해시 연산을 무한정 유발하지 못하게 한다.
+// 노드 로컬 토큰 버킷으로 명백한 폭주를 먼저 걸러 Redis 부하를 줄이고, 클러스터 전체 한도는 Redis 슬라이딩 윈도로 판정한다.
+@Service
+public class LoginRateLimiter {
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List<Long>> RATE_LIMIT_SCRIPT =
+            (RedisScript) RedisScript.of(new ClassPathResource("redis/login-rate-limit.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long windowMillis;
+    private final int ipLimit;
+    private final int accountLimit;
+    private final Cache<String, TokenBucket> localBuckets;
+    private final Counter ipLocalRejections;
+    private final Counter accountLocalRejections;
+    private final Counter ipRedisRejections;
+    private final Counter accountRedisRejections;
+
+    public LoginRateLimiter(StringRedisTemplate redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${security.login.rate-limit.window}") Duration window,
+                            @Value("${security.login.rate-limit.ip-limit}") int ipLimit,
+                            @Value("${security.login.rate-limit.account-limit}") int accountLimit,
+                            @Value("${security.login.rate-limit.local-buckets}") long localBuckets) {
+        this.redisTemplate = redisTemplate;
+        this.windowMillis = window.toMillis();
+        this.ipLimit = ipLimit;
+        this.accountLimit = accountLimit;
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(localBuckets)
+                .expireAfterAccess(window)
+                .build();
+        this.ipLocalRejections = rejectionCounter(meterRegistry, "ip", "local");
+        this.accountLocalRejections = rejectionCounter(meterRegistry, "account", "local");
+        this.ipRedisRejections = rejectionCounter(meterRegistry, "ip", "redis");
+        this.accountRedisRejections = rejectionCounter(meterRegistry, "account", "redis");
+    }
+
+    // 한도를 넘으면 429와 Retry-After로 거절한다. 해시 계산과 DB 조회보다 먼저 호출해야 한다.
+    public void check(String clientAddress, String email) {
+        long now = System.currentTimeMillis();
+        acquireLocal("ip:" + clientAddress, ipLimit, now, ipLocalRejections);
+        acquireLocal("account:" + email, accountLimit, now, accountLocalRejections);
+
+        long windowIndex = now / windowMillis;
+        List<String> keys = List.of(
+                windowKey("ip", clientAddress, windowIndex), windowKey("ip", clientAddress, windowIndex - 1),
+                windowKey("account", email, windowIndex), windowKey("account", email, windowIndex - 1));
+        List<Long> result = redisTemplate.execute(RATE_LIMIT_SCRIPT, keys,
+                String.valueOf(ipLimit), String.valueOf(accountLimit),
+                String.valueOf(windowMillis), String.valueOf(now - windowIndex * windowMillis));
+        if (result == null || result.get(0) == 0L) {
+            return;
+        }
+        (result.get(0) == 1L ? ipRedisRejections : accountRedisRejections).increment();
+        throw tooManyAttempts(result.get(1));
+    }
+
+    private void acquireLocal(String key, int limit, long now, Counter rejections) {
+        TokenBucket bucket = localBuckets.get(key, ignored -> new TokenBucket(limit, (double) limit / windowMillis, now));
+        long waitMillis = bucket.tryAcquire(now);
+        if (waitMillis > 0) {
+            rejections.increment();
+            throw tooManyAttempts(waitMillis);
+        }
+    }
+
+    private RetryLaterException tooManyAttempts(long retryAfterMillis) {
+        return new RetryLaterException(HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts",
+                Duration.ofMillis(retryAfterMillis));
+    }
+
+    private String windowKey(String scope, String id, long windowIndex) {
+        return "ratelimit:login:" + scope + ":" + id + ":" + windowIndex;
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String scope, String layer) {
+        return Counter.builder("auth.login.rate_limited")
+                .description("Login attempts rejected by the rate limiter before password hashing")
+                .tag("scope", scope)
+                .tag("layer", layer)
+                .register(meterRegistry);
+    }
+
+    // 노드 로컬 사전 필터. 용량과 보충 속도를 클러스터 한도와 같게 두므로, Redis 판정보다 먼저 거절하는 경우는
+    // 이 노드 혼자서도 한도를 넘긴 경우뿐이다.
+    static final class TokenBucket {
+
+        private final double capacity;
+        private final double refillPerMilli;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(double capacity, double refillPerMilli, long now) {
+            this.capacity = capacity;
+            this.refillPerMilli = refillPerMilli;
+            this.tokens = capacity;
+            this.lastRefill = now;
+        }
+
+        // 토큰을 얻으면 0, 아니면 다음 토큰까지 남은 시간(ms)을 돌려준다.
+        synchronized long tryAcquire(long now) {
+            // 여러 스레드가 읽은 now는 순서가 뒤바뀔 수 있다. 과거 시각으로 토큰이 줄어들지 않게 한다.
+            tokens = Math.min(capacity, tokens + Math.max(0, now - lastRefill) * refillPerMilli);
+            lastRefill = Math.max(lastRefill, now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerMilli));
+        }
+    }
+}
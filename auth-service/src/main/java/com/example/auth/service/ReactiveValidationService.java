@@ -0,0 +1,28 @@
+package com.example.auth.service;
+
+import com.example.auth.metrics.AuthMetrics;
+import com.example.auth.security.AccessTokenAuthenticator;
+import com.example.auth.web.dto.ValidateResponse;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+// 게이트웨이 forward-auth용 논블로킹 검증. AuthService.validate와 같은 규칙이고 Redis/DB 대기 동안 요청 스레드를 반납한다.
+// 실제 작업은 메서드가 Mono를 돌려준 뒤 구독 시점에 실행되므로 트랜잭션 경계가 의미가 없다.
+// 클래스 단위 트랜잭션이 있는 AuthService와 분리해, Mono 조립만 하는 동안 커넥션을 잡지 않게 한다.
+@Service
+public class ReactiveValidationService {
+
+    private final AccessTokenAuthenticator accessTokenAuthenticator;
+    private final AuthMetrics authMetrics;
+
+    public ReactiveValidationService(AccessTokenAuthenticator accessTokenAuthenticator, AuthMetrics authMetrics) {
+        this.accessTokenAuthenticator = accessTokenAuthenticator;
+        this.authMetrics = authMetrics;
+    }
+
+    public Mono<ValidateResponse> validate(String authorizationHeader) {
+        return authMetrics.recordAsync("validate_reactive", () -> Mono.fromCallable(() -> AuthService.extractToken(authorizationHeader))
+                .flatMap(accessTokenAuthenticator::authenticateAsync)
+                .map(user -> new ValidateResponse(user.id(), user.email(), user.role().name())));
+    }
+}
@@ -1,34 +1,116 @@
 package com.example.auth.service;
 
+import com.example.auth.security.TokenDigests;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+// 리프레시 토큰을 기기(로그인 세션)별 패밀리로 관리한다.
+// refresh:family:{fid} 해시에 현재 토큰의 SHA-256 다이제스트(43자)를 두고, 재발급마다 회전하며,
+// 이미 회전된 토큰이 다시 오면 패밀리 전체를 폐기한다. refresh:families:{id}는 패밀리 키를 만료 시각 점수로 담는 ZSET이며,
+// 스크립트가 쓸 때마다 만료된 항목을 정리한다.
+// 스크립트 안의 비교는 상수 시간이 아니지만, 서명 검증을 통과한 토큰의 다이제스트끼리 비교하므로 타이밍으로 얻을 정보가 없다.
 @Service
 public class RefreshTokenService {
 
+    public enum RotationResult {
+        ROTATED,
+        UNKNOWN,
+        REUSED
+    }
+
+    private static final RedisScript<Long> START_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/refresh-start.lua"), Long.class);
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/refresh-rotate.lua"), Long.class);
+
     private final StringRedisTemplate redisTemplate;
+    private final Timer startTimer;
+    private final Timer rotateTimer;
+    private final Timer legacyTimer;
+    private final Timer deleteTimer;
 
-    public RefreshTokenService(StringRedisTemplate redisTemplate) {
+    public RefreshTokenService(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
         this.redisTemplate = redisTemplate;
+        this.startTimer = redisTimer(meterRegistry, "start");
+        this.rotateTimer = redisTimer(meterRegistry, "rotate");
+        this.legacyTimer = redisTimer(meterRegistry, "legacy");
+        this.deleteTimer = redisTimer(meterRegistry, "delete");
+    }
+
+    public void startFamily(UUID userId, String familyId, String token, Duration ttl) {
+        startTimer.record(() -> redisTemplate.execute(START_SCRIPT,
+                List.of(familyKey(familyId), userFamiliesKey(userId)),
+                userId.toString(), TokenDigests.sha256(token), String.valueOf(ttl.toSeconds()),
+                String.valueOf(System.currentTimeMillis())));
+    }
+
+    public RotationResult rotate(UUID userId, String familyId, String presentedToken, String newToken, Duration ttl) {
+        Long result = rotateTimer.record(() -> redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(familyKey(familyId), userFamiliesKey(userId)),
+                userId.toString(), TokenDigests.sha256(presentedToken), TokenDigests.sha256(newToken),
+                String.valueOf(ttl.toSeconds()), String.valueOf(System.currentTimeMillis())));
+        if (result == null || result == 0L) {
+            return RotationResult.UNKNOWN;
+        }
+        return result > 0 ? RotationResult.ROTATED : RotationResult.REUSED;
     }
 
-    public void store(UUID userId, String token, Duration ttl) {
-        redisTemplate.opsForValue().set(refreshKey(userId), token, ttl);
+    // 패밀리 도입 이전에 발급된 토큰(refresh:{userId} 단일 키)을 한 번 받아 주고 키를 지운다.
+    public boolean consumeLegacy(UUID userId, String token) {
+        String stored = legacyTimer.record(() -> redisTemplate.opsForValue().getAndDelete(legacyKey(userId)));
+        return stored != null && TokenDigests.constantTimeEquals(TokenDigests.sha256(stored), TokenDigests.sha256(token));
     }
 
-    public boolean matches(UUID userId, String token) {
-        String stored = redisTemplate.opsForValue().get(refreshKey(userId));
-        return stored != null && stored.equals(token);
+    public void revokeFamily(UUID userId, String familyId) {
+        deleteTimer.record(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection commands = (StringRedisConnection) connection;
+            commands.del(familyKey(familyId));
+            commands.zRem(userFamiliesKey(userId), familyKey(familyId));
+            return null;
+        }));
     }
 
     public void delete(UUID userId) {
-        redisTemplate.delete(refreshKey(userId));
+        deleteTimer.record(() -> {
+            Set<String> families = redisTemplate.opsForZSet().range(userFamiliesKey(userId), 0, -1);
+            List<String> keys = new ArrayList<>();
+            if (families != null) {
+                keys.addAll(families);
+            }
+            keys.add(userFamiliesKey(userId));
+            keys.add(legacyKey(userId));
+            redisTemplate.delete(keys);
+        });
+    }
+
+    private static Timer redisTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.redis.refresh")
+                .description("Redis round-trips for refresh token storage")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private String familyKey(String familyId) {
+        return "refresh:family:" + familyId;
+    }
+
+    private String userFamiliesKey(UUID userId) {
+        return "refresh:families:" + userId;
     }
 
-    private String refreshKey(UUID userId) {
+    private String legacyKey(UUID userId) {
         return "refresh:" + userId;
     }
 }
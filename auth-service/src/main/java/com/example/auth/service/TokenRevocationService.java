@@ -0,0 +1,204 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.user.UserTokensRevokedEvent;
+import com.example.auth.security.VerifiedToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// 만료 전 액세스 토큰 폐기 목록.
+// Redis에는 토큰(jti)/사용자 단위 항목을 토큰 잔여 수명만큼만 두고, 각 노드는 이를 블룸 필터로 주기적으로 복제한다.
+// 검증 경로는 필터가 "있을 수도 있음"이라고 답할 때만 Redis를 조회한다.
+@Service
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    // 살아 있는 폐기 항목 키 -> 만료 시각(epoch ms). 동기화 시 만료된 항목을 정리하고 나머지로 필터를 다시 만든다.
+    private static final String INDEX_KEY = "revoked:index";
+    private static final String TOKEN_PREFIX = "revoked:jti:";
+    private static final String USER_PREFIX = "revoked:user:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration accessTokenTtl;
+    private final Counter revokedHits;
+    private final Counter falsePositives;
+    private final Object filterLock = new Object();
+    private volatile RevocationBloomFilter filter;
+    private volatile int entries;
+    // 동기화가 Redis를 읽는 동안 이 노드에서 추가된 키. 새 필터로 바꾸기 전에 다시 넣는다. filterLock으로 보호한다.
+    private Set<String> addedDuringSync;
+
+    public TokenRevocationService(StringRedisTemplate redisTemplate,
+                                  ReactiveStringRedisTemplate reactiveRedisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${security.revocation.expected-insertions}") long expectedInsertions,
+                                  @Value("${security.revocation.false-positive-rate}") double falsePositiveRate,
+                                  @Value("${security.jwt.access-token-validity-seconds}") long accessTokenValiditySeconds) {
+        this.redisTemplate = redisTemplate;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.accessTokenTtl = Duration.ofSeconds(accessTokenValiditySeconds);
+        this.filter = RevocationBloomFilter.create(expectedInsertions, falsePositiveRate);
+        this.revokedHits = lookupCounter(meterRegistry, "revoked");
+        this.falsePositives = lookupCounter(meterRegistry, "false_positive");
+        Gauge.builder("auth.revocation.entries", this, service -> service.entries)
+                .description("Revocation entries mirrored into the local Bloom filter")
+                .register(meterRegistry);
+    }
+
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        add(TOKEN_PREFIX + tokenId, "1", expiresAt);
+    }
+
+    // 이 시각 이전에 발급된 사용자의 액세스 토큰을 모두 폐기한다.
+    // iat가 초 단위라 같은 초에 발급된 토큰은 남는다. 폐기 직후 재로그인한 토큰이 막히지 않게 하기 위한 선택이다.
+    public void revokeUser(UUID userId) {
+        Instant now = Instant.now();
+        add(USER_PREFIX + userId, String.valueOf(now.getEpochSecond()), now.plus(accessTokenTtl));
+    }
+
+    @TransactionalEventListener
+    public void onUserTokensRevoked(UserTokensRevokedEvent event) {
+        revokeUser(event.userId());
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        List<String> keys = candidateKeys(token);
+        if (keys.isEmpty()) {
+            return false;
+        }
+        return evaluate(token, keys, redisTemplate.opsForValue().multiGet(keys));
+    }
+
+    // 논블로킹 검증 경로용. 필터 판단은 같고, 필터가 걸렸을 때의 Redis 조회만 리액티브 커넥션으로 보낸다.
+    public Mono<Boolean> isRevokedAsync(VerifiedToken token) {
+        List<String> keys = candidateKeys(token);
+        if (keys.isEmpty()) {
+            return Mono.just(false);
+        }
+        return reactiveRedisTemplate.opsForValue().multiGet(keys)
+                .map(values -> evaluate(token, keys, values));
+    }
+
+    // 빈 필터는 모든 토큰을 통과시키므로, 첫 주기를 기다리지 않고 기동 중에 한 번 채운다.
+    @PostConstruct
+    void loadInitialFilter() {
+        sync();
+    }
+
+    // 다른 노드에서 추가된 항목은 최대 sync-interval 만큼 늦게 반영된다.
+    @Scheduled(fixedDelayString = "${security.revocation.sync-interval}")
+    public void sync() {
+        Set<String> added = new HashSet<>();
+        synchronized (filterLock) {
+            addedDuringSync = added;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, 0, now);
+            Set<String> live = redisTemplate.opsForZSet().rangeByScore(INDEX_KEY, now, Double.POSITIVE_INFINITY);
+            int size = live == null ? 0 : live.size();
+            RevocationBloomFilter next = RevocationBloomFilter.create(Math.max(expectedInsertions, 2L * size), falsePositiveRate);
+            if (live != null) {
+                live.forEach(next::put);
+            }
+            synchronized (filterLock) {
+                added.forEach(next::put);
+                filter = next;
+            }
+            entries = size;
+        } catch (RuntimeException ex) {
+            log.warn("Failed to sync the revocation list; keeping the previous filter", ex);
+        } finally {
+            synchronized (filterLock) {
+                addedDuringSync = null;
+            }
+        }
+    }
+
+    // 값과 색인을 한 번의 왕복으로 보낸다.
+    private void add(String key, String value, Instant expiresAt) {
+        long ttlMillis = Math.max(1, Duration.between(Instant.now(), expiresAt).toMillis());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection commands = (StringRedisConnection) connection;
+            commands.pSetEx(key, ttlMillis, value);
+            commands.zAdd(INDEX_KEY, expiresAt.toEpochMilli(), key);
+            return null;
+        });
+        synchronized (filterLock) {
+            filter.put(key);
+            if (addedDuringSync != null) {
+                addedDuringSync.add(key);
+            }
+        }
+    }
+
+    // 블룸 필터가 "있을 수도 있음"이라고 답한 키만 돌려준다. 비어 있으면 폐기되지 않은 토큰이다.
+    private List<String> candidateKeys(VerifiedToken token) {
+        RevocationBloomFilter current = filter;
+        List<String> keys = new ArrayList<>(2);
+        if (token.tokenId() != null && current.mightContain(TOKEN_PREFIX + token.tokenId())) {
+            keys.add(TOKEN_PREFIX + token.tokenId());
+        }
+        if (current.mightContain(USER_PREFIX + token.userId())) {
+            keys.add(USER_PREFIX + token.userId());
+        }
+        return keys;
+    }
+
+    private boolean evaluate(VerifiedToken token, List<String> keys, List<String> values) {
+        boolean revoked = false;
+        if (values != null) {
+            for (int i = 0; i < keys.size() && !revoked; i++) {
+                String value = values.get(i);
+                revoked = keys.get(i).startsWith(TOKEN_PREFIX) ? present(value) : issuedBefore(token, value);
+            }
+        }
+        (revoked ? revokedHits : falsePositives).increment();
+        return revoked;
+    }
+
+    private boolean issuedBefore(VerifiedToken token, String cutoff) {
+        return present(cutoff) && token.issuedAt().getEpochSecond() < Long.parseLong(cutoff);
+    }
+
+    // 리액티브 MGET은 없는 키를 빈 문자열로 돌려줄 수 있다.
+    private static boolean present(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("auth.revocation.lookups")
+                .description("Redis revocation lookups triggered by a Bloom filter hit")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
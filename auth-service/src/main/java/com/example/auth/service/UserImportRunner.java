@@ -0,0 +1,105 @@
+package com.example.auth.service;
+
+import com.example.auth.web.dto.UserImportError;
+import com.example.auth.web.dto.UserImportReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// user-import.file 이 지정되면 파일을 가져온 뒤 애플리케이션을 종료하는 일회성 실행 모드.
+//   java -jar auth-service.jar --spring.main.web-application-type=none --user-import.file=/data/users.ndjson
+// 배치마다 <file>.checkpoint 에 처리한 마지막 줄을 기록하므로, 같은 명령을 다시 실행하면 이어서 가져온다.
+// 거절된 행(형식 오류, 중복 이메일)은 <file>.errors.ndjson 에 한 줄씩 추가된다.
+@Component
+@ConditionalOnProperty("user-import.file")
+public class UserImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(UserImportRunner.class);
+
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext applicationContext;
+    private final Path file;
+
+    public UserImportRunner(UserImportService userImportService,
+                            ObjectMapper objectMapper,
+                            ConfigurableApplicationContext applicationContext,
+                            @Value("${user-import.file}") String file) {
+        this.userImportService = userImportService;
+        this.objectMapper = objectMapper;
+        this.applicationContext = applicationContext;
+        this.file = Path.of(file);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path checkpoint = sibling(".checkpoint");
+        long resumeAfter = Files.exists(checkpoint) ? Long.parseLong(Files.readString(checkpoint).trim()) : 0;
+        if (resumeAfter > 0) {
+            log.info("Resuming user import of {} after line {}", file, resumeAfter);
+        }
+        UserImportReport report;
+        try (InputStream input = Files.newInputStream(file);
+             BufferedWriter errors = Files.newBufferedWriter(sibling(".errors.ndjson"), StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            report = userImportService.importUsers(input, resumeAfter, new FileListener(errors, checkpoint));
+        }
+        log.info("Imported {} from {} ({} duplicates, {} failed)", report.imported(), file, report.duplicates(), report.failed());
+        System.exit(SpringApplication.exit(applicationContext));
+    }
+
+    private Path sibling(String suffix) {
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    private final class FileListener implements UserImportService.Listener {
+
+        private final BufferedWriter errors;
+        private final Path checkpoint;
+
+        FileListener(BufferedWriter errors, Path checkpoint) {
+            this.errors = errors;
+            this.checkpoint = checkpoint;
+        }
+
+        @Override
+        public void onRowRejected(UserImportError error) {
+            try {
+                errors.write(objectMapper.writeValueAsString(error));
+                errors.newLine();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        // 오류 파일을 먼저 내려쓴 뒤 체크포인트를 원자적으로 교체한다. 중간에 죽어도 체크포인트 이후 행만 다시 처리된다.
+        @Override
+        public void onBatchCommitted(UserImportReport progress) {
+            try {
+                errors.flush();
+                Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+                Files.writeString(temp, Long.toString(progress.lastLine()));
+                Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
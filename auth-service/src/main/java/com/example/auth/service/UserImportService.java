@@ -0,0 +1,341 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.user.UuidV7;
+import com.example.auth.exception.ApiException;
+import com.example.auth.repository.UserBulkInsertRepository;
+import com.example.auth.repository.UserBulkInsertRepository.NewLocalUser;
+import com.example.auth.web.dto.UserImportError;
+import com.example.auth.web.dto.UserImportRecord;
+import com.example.auth.web.dto.UserImportReport;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// 기존 시스템 사용자를 NDJSON 스트림으로 일괄 가져온다.
+// 배치마다 검증 -> 이미 가입된 이메일 제외 -> 평문 비밀번호 병렬 해시 -> users/accounts 한 문장 삽입 순서로 처리한다.
+// 해시는 로그인용 풀(PasswordHashingService)과 별도의 풀에서 계산하고, 기본 스레드 수를 코어의 절반으로 두어
+// 가져오는 동안에도 로그인 해시가 쓸 CPU를 남긴다.
+@Service
+public class UserImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final String DUPLICATE = "duplicate";
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+    // {bcrypt}/{argon2} 접두사가 붙은 해시와 접두사 없는 BCrypt 해시만 받는다. 접두사 없는 BCrypt는 {bcrypt}를 붙여 저장한다.
+    private static final Pattern PREFIXED_HASH =
+            Pattern.compile("\\{bcrypt}\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}|\\{argon2}\\$argon2(id|i|d)\\$.+");
+    private static final Pattern BARE_BCRYPT = Pattern.compile("\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}");
+
+    private final UserBulkInsertRepository userBulkInsertRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ExecutorService hashingExecutor;
+    private final int batchSize;
+    private final int maxReportedErrors;
+    private final Counter importedCounter;
+    private final Counter duplicateCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    public UserImportService(UserBulkInsertRepository userBulkInsertRepository,
+                             PasswordEncoder passwordEncoder,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             MeterRegistry meterRegistry,
+                             @Value("${user-import.batch-size}") int batchSize,
+                             @Value("${user-import.hashing-threads}") int hashingThreads,
+                             @Value("${user-import.max-reported-errors}") int maxReportedErrors) {
+        this.userBulkInsertRepository = userBulkInsertRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.hashingExecutor = Executors.newFixedThreadPool(
+                hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                new ImportThreadFactory());
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.importedCounter = rowCounter(meterRegistry, "imported");
+        this.duplicateCounter = rowCounter(meterRegistry, "duplicate");
+        this.failedCounter = rowCounter(meterRegistry, "failed");
+        this.batchTimer = Timer.builder("auth.import.batch")
+                .description("Validation, hashing and insert time of one bulk import batch")
+                .register(meterRegistry);
+    }
+
+    // resumeAfter 줄까지는 읽고 버린다. 삽입은 이메일 기준으로 멱등이라 같은 구간을 다시 넣어도 중복 행이 생기지 않는다.
+    public UserImportReport importUsers(InputStream input, long resumeAfter, Listener listener) throws IOException {
+        Progress progress = new Progress(resumeAfter, listener);
+        List<Row> batch = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= resumeAfter || line.isBlank()) {
+                    continue;
+                }
+                Row row = parse(lineNumber, line, progress);
+                if (row != null) {
+                    batch.add(row);
+                }
+                if (batch.size() == batchSize) {
+                    importBatch(batch, lineNumber, progress);
+                    batch.clear();
+                }
+            }
+        }
+        importBatch(batch, Math.max(lineNumber, resumeAfter), progress);
+        log.info("User import finished at line {}: {} imported, {} duplicates, {} failed",
+                progress.lastLine, progress.imported, progress.duplicates, progress.failed);
+        return progress.report();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdownNow();
+    }
+
+    private Row parse(long line, String json, Progress progress) {
+        UserImportRecord record;
+        try {
+            record = objectMapper.readValue(json, UserImportRecord.class);
+        } catch (JsonProcessingException ex) {
+            progress.fail(line, null, "Malformed JSON");
+            return null;
+        }
+        // "null" 한 줄은 예외 없이 null로 읽힌다.
+        if (record == null) {
+            progress.fail(line, null, "Malformed JSON");
+            return null;
+        }
+        Set<ConstraintViolation<UserImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            progress.fail(line, record.email(), violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        boolean hasPassword = record.password() != null;
+        if (hasPassword == StringUtils.hasText(record.passwordHash())) {
+            progress.fail(line, record.email(), "Exactly one of password or passwordHash is required");
+            return null;
+        }
+        String passwordHash = null;
+        if (!hasPassword) {
+            passwordHash = normalizeHash(record.passwordHash());
+            if (passwordHash == null) {
+                progress.fail(line, record.email(), "Unsupported passwordHash format");
+                return null;
+            }
+        }
+        return new Row(line, record.email().trim().toLowerCase(), record.nickname().trim(), record.password(), passwordHash);
+    }
+
+    private void importBatch(List<Row> rows, long lastLine, Progress progress) {
+        try {
+            batchTimer.record(() -> {
+                List<Row> hashed = hash(withoutDuplicates(rows, progress), progress);
+                if (hashed.isEmpty()) {
+                    return;
+                }
+                long[] accountIds = userBulkInsertRepository.allocateAccountIds(hashed.size());
+                List<NewLocalUser> users = new ArrayList<>(hashed.size());
+                for (int i = 0; i < hashed.size(); i++) {
+                    Row row = hashed.get(i);
+                    users.add(new NewLocalUser(UuidV7.next(), accountIds[i], row.email(), row.nickname(), row.passwordHash()));
+                }
+                Set<UUID> inserted = userBulkInsertRepository.insertLocalUsers(users);
+                for (int i = 0; i < users.size(); i++) {
+                    if (inserted.contains(users.get(i).id())) {
+                        progress.imported();
+                    } else {
+                        // 사전 확인 이후 다른 요청이 같은 이메일로 가입한 경우
+                        progress.duplicate(hashed.get(i));
+                    }
+                }
+            });
+        } catch (DataAccessException ex) {
+            log.error("User import stopped after line {}", progress.lastLine, ex);
+            throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Import stopped; resume with resumeAfter=" + progress.lastLine);
+        }
+        progress.commit(lastLine);
+    }
+
+    // 같은 배치 안의 중복은 앞의 행만 남기고, 이미 가입된 이메일은 해시 계산 전에 걸러 낸다.
+    private List<Row> withoutDuplicates(List<Row> rows, Progress progress) {
+        Map<String, Row> byEmail = new LinkedHashMap<>();
+        for (Row row : rows) {
+            if (byEmail.putIfAbsent(row.email(), row) != null) {
+                progress.duplicate(row);
+            }
+        }
+        Set<String> existing = userBulkInsertRepository.findExistingEmails(byEmail.keySet());
+        List<Row> fresh = new ArrayList<>(byEmail.size());
+        for (Row row : byEmail.values()) {
+            if (existing.contains(row.email())) {
+                progress.duplicate(row);
+            } else {
+                fresh.add(row);
+            }
+        }
+        return fresh;
+    }
+
+    private List<Row> hash(List<Row> rows, Progress progress) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            hashes.add(row.passwordHash() != null
+                    ? CompletableFuture.completedFuture(row.passwordHash())
+                    : CompletableFuture.supplyAsync(() -> passwordEncoder.encode(row.password()), hashingExecutor));
+        }
+        List<Row> hashed = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            try {
+                hashed.add(row.withPasswordHash(hashes.get(i).join()));
+            } catch (CompletionException ex) {
+                progress.fail(row.line(), row.email(), "Password hashing failed");
+            }
+        }
+        return hashed;
+    }
+
+    private String normalizeHash(String passwordHash) {
+        if (PREFIXED_HASH.matcher(passwordHash).matches()) {
+            return passwordHash;
+        }
+        if (BARE_BCRYPT.matcher(passwordHash).matches()) {
+            return "{bcrypt}" + passwordHash;
+        }
+        return null;
+    }
+
+    private static Counter rowCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("auth.import.rows")
+                .description("Rows processed by the bulk user import")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // 가져오기 진행 상황을 받아 체크포인트/오류 파일을 쓰는 쪽(UserImportRunner)이 구현한다.
+    public interface Listener {
+
+        Listener NONE = new Listener() {
+        };
+
+        default void onRowRejected(UserImportError error) {
+        }
+
+        // lastLine까지의 행이 모두 커밋(또는 거절)된 뒤 호출된다.
+        default void onBatchCommitted(UserImportReport progress) {
+        }
+    }
+
+    private record Row(long line, String email, String nickname, String password, String passwordHash) {
+
+        Row withPasswordHash(String hash) {
+            return new Row(line, email, nickname, null, hash);
+        }
+    }
+
+    private final class Progress {
+
+        private final Listener listener;
+        private final List<UserImportError> errors = new ArrayList<>();
+        private long lastLine;
+        private long imported;
+        private long duplicates;
+        private long failed;
+
+        Progress(long resumeAfter, Listener listener) {
+            this.lastLine = resumeAfter;
+            this.listener = listener;
+        }
+
+        void imported() {
+            imported++;
+            importedCounter.increment();
+        }
+
+        void duplicate(Row row) {
+            duplicates++;
+            duplicateCounter.increment();
+            reject(new UserImportError(row.line(), row.email(), DUPLICATE));
+        }
+
+        void fail(long line, String email, String reason) {
+            failed++;
+            failedCounter.increment();
+            reject(new UserImportError(line, email, reason));
+        }
+
+        void commit(long line) {
+            long previous = lastLine;
+            lastLine = line;
+            listener.onBatchCommitted(report());
+            if (line / PROGRESS_LOG_INTERVAL > previous / PROGRESS_LOG_INTERVAL) {
+                log.info("User import at line {}: {} imported, {} duplicates, {} failed", line, imported, duplicates, failed);
+            }
+        }
+
+        UserImportReport report() {
+            return new UserImportReport(lastLine, imported, duplicates, failed, List.copyOf(errors));
+        }
+
+        private void reject(UserImportError error) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(error);
+            }
+            listener.onRowRejected(error);
+        }
+    }
+
+    private static final class ImportThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "user-import-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.user.UserAccessChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+// 사용자 상태/권한 변경을 Redis pub/sub 채널로 전파해 모든 auth-service 인스턴스의 로컬 캐시를 비운다.
+@Service
+public class UserInvalidationBroadcaster implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(UserInvalidationBroadcaster.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserStatusCache userStatusCache;
+    private final UserStatusVersionService userStatusVersionService;
+    private final String channel;
+
+    public UserInvalidationBroadcaster(StringRedisTemplate redisTemplate,
+                                       UserStatusCache userStatusCache,
+                                       UserStatusVersionService userStatusVersionService,
+                                       @Value("${security.user-cache.invalidation-channel}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.userStatusCache = userStatusCache;
+        this.userStatusVersionService = userStatusVersionService;
+        this.channel = channel;
+    }
+
+    // 커밋 이후에 버전을 올려야 커밋 전 상태를 읽고 새 버전으로 발급된 토큰이 생기지 않는다.
+    @TransactionalEventListener
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        userStatusVersionService.bump(event.userId());
+        evictLocal(event.userId());
+        redisTemplate.convertAndSend(channel, event.userId().toString());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(UUID.fromString(body));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring malformed user invalidation message: {}", body);
+        }
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    private void evictLocal(UUID userId) {
+        userStatusCache.evict(userId);
+        userStatusVersionService.evictLocal(userId);
+    }
+}
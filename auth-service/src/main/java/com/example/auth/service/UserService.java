@@ -1,12 +1,23 @@
 package com.example.auth.service;
 
+import com.example.auth.domain.account.AccountEntity;
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.domain.user.UserAccessChangedEvent;
 import com.example.auth.domain.user.UserEntity;
+import com.example.auth.domain.user.UserTokensRevokedEvent;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
 import com.example.auth.exception.ApiException;
 import com.example.auth.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -14,9 +25,11 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public UserEntity getById(UUID id) {
@@ -24,17 +37,55 @@ public class UserService {
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
     }
 
-    public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+    // 인증 경로 전용: 엔티티를 만들지 않고 필요한 컬럼만 읽는다.
+    public AuthUserView getAuthView(UUID id) {
+        return userRepository.findAuthViewById(id)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
+    }
+
+    public List<AuthUserView> getAuthViews(Collection<UUID> ids) {
+        return userRepository.findAuthViewsByIdIn(ids);
     }
 
+    // 중복 여부를 미리 조회하지 않고 바로 삽입한 뒤 유니크 제약 위반을 409로 바꾼다. 동시 가입 경합도 같은 경로로 처리된다.
     @Transactional
-    public UserEntity save(UserEntity user) {
-        return userRepository.save(user);
+    public UserEntity register(UserEntity user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (violates(ex, UserEntity.EMAIL_CONSTRAINT) || violates(ex, AccountEntity.PROVIDER_CONSTRAINT)) {
+                throw new ApiException(HttpStatus.CONFLICT, "Email already registered");
+            }
+            throw ex;
+        }
     }
 
     public UserEntity getByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "User not found"));
     }
+
+    @Transactional
+    public UserEntity changeStatus(UUID id, UserStatus status) {
+        UserEntity user = getById(id);
+        user.setStatus(status);
+        eventPublisher.publishEvent(new UserAccessChangedEvent(id));
+        if (status != UserStatus.ACTIVE) {
+            eventPublisher.publishEvent(new UserTokensRevokedEvent(id));
+        }
+        return user;
+    }
+
+    private boolean violates(DataIntegrityViolationException ex, String constraintName) {
+        return ex.getCause() instanceof ConstraintViolationException violation
+                && constraintName.equalsIgnoreCase(violation.getConstraintName());
+    }
+
+    @Transactional
+    public UserEntity changeRole(UUID id, UserRole role) {
+        UserEntity user = getById(id);
+        user.setRole(role);
+        eventPublisher.publishEvent(new UserAccessChangedEvent(id));
+        return user;
+    }
 }
@@ -0,0 +1,84 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// UserService.getAuthView 앞단의 read-through 캐시. 인증 판단에 필요한 필드만 보관하며,
+// 상태/권한 변경 시 UserInvalidationBroadcaster가 모든 인스턴스에서 항목을 제거한다.
+@Service
+public class UserStatusCache {
+
+    private final UserService userService;
+    private final Cache<UUID, AuthUserView> cache;
+    // evict 횟수. 조회 전후로 값이 바뀌었다면 그 사이 무효화가 있었던 것이므로 조회 결과를 넣지 않는다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserStatusCache(UserService userService,
+                           MeterRegistry meterRegistry,
+                           @Value("${security.user-cache.ttl}") Duration ttl,
+                           @Value("${security.user-cache.max-size}") long maxSize) {
+        this.userService = userService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userStatus");
+    }
+
+    // cache.get(key, loader)는 ConcurrentHashMap.compute의 synchronized 구간 안에서 DB를 조회하므로
+    // 가상 스레드가 캐리어 스레드에 고정(pinning)된다. 조회는 잠금 밖에서 하고 결과만 넣는다.
+    public AuthUserView get(UUID userId) {
+        AuthUserView cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long epoch = invalidations.get();
+        AuthUserView loaded = userService.getAuthView(userId);
+        putIfNotInvalidated(userId, loaded, epoch);
+        return loaded;
+    }
+
+    public AuthUserView getIfPresent(UUID userId) {
+        return cache.getIfPresent(userId);
+    }
+
+    public Map<UUID, AuthUserView> getAll(Collection<UUID> userIds) {
+        Map<UUID, AuthUserView> result = new HashMap<>(cache.getAllPresent(userIds));
+        List<UUID> missing = userIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            long epoch = invalidations.get();
+            for (AuthUserView view : userService.getAuthViews(missing)) {
+                putIfNotInvalidated(view.id(), view, epoch);
+                result.put(view.id(), view);
+            }
+        }
+        return result;
+    }
+
+    // 무효화보다 먼저 epoch를 올려, 진행 중이던 조회가 이전 값을 다시 넣지 못하게 한다.
+    public void evict(UUID userId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(userId);
+    }
+
+    // compute 안에서는 epoch 비교만 하므로 잠금 구간에 I/O가 없다.
+    private void putIfNotInvalidated(UUID userId, AuthUserView loaded, long epoch) {
+        cache.asMap().compute(userId, (id, current) -> invalidations.get() == epoch ? loaded : current);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자 상태/권한이 바뀔 때마다 증가하는 버전을 Redis에 보관한다.
+// 액세스 토큰은 발급 시점의 버전을 담고 있어, 버전이 뒤처진 토큰은 DB 조회 없이 거부할 수 있다.
+@Service
+public class UserStatusVersionService {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final Cache<UUID, Long> localVersions;
+    // 로컬 무효화 횟수. UserStatusCache와 같은 방식으로 무효화와 겹친 조회 결과가 다시 들어가는 것을 막는다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserStatusVersionService(StringRedisTemplate redisTemplate,
+                                    ReactiveStringRedisTemplate reactiveRedisTemplate,
+                                    @Value("${security.user-cache.ttl}") Duration ttl,
+                                    @Value("${security.user-cache.max-size}") long maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.localVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public long currentVersion(UUID userId) {
+        String value = redisTemplate.opsForValue().get(versionKey(userId));
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    // 검증 경로용 조회. 로컬 사본은 TTL 또는 pub/sub 무효화 메시지로 갱신된다.
+    // Redis 조회는 캐시 잠금 밖에서 수행해 가상 스레드 pinning을 피한다.
+    public long cachedVersion(UUID userId) {
+        Long cached = localVersions.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long epoch = invalidations.get();
+        long version = currentVersion(userId);
+        putIfNotInvalidated(userId, version, epoch);
+        return version;
+    }
+
+    public Mono<Long> cachedVersionAsync(UUID userId) {
+        Long cached = localVersions.getIfPresent(userId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        // epoch는 Redis 조회를 구독하는 시점에 읽어야 그 사이의 무효화를 놓치지 않는다.
+        return Mono.defer(() -> {
+            long epoch = invalidations.get();
+            return reactiveRedisTemplate.opsForValue().get(versionKey(userId))
+                    .map(Long::parseLong)
+                    .defaultIfEmpty(0L)
+                    .doOnNext(version -> putIfNotInvalidated(userId, version, epoch));
+        });
+    }
+
+    public Map<UUID, Long> cachedVersions(Collection<UUID> userIds) {
+        Map<UUID, Long> result = new HashMap<>(localVersions.getAllPresent(userIds));
+        List<UUID> missing = userIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            long epoch = invalidations.get();
+            List<String> values = redisTemplate.opsForValue().multiGet(missing.stream().map(this::versionKey).toList());
+            for (int i = 0; i < missing.size(); i++) {
+                String value = values != null ? values.get(i) : null;
+                long version = value != null ? Long.parseLong(value) : 0L;
+                putIfNotInvalidated(missing.get(i), version, epoch);
+                result.put(missing.get(i), version);
+            }
+        }
+        return result;
+    }
+
+    public long bump(UUID userId) {
+        Long version = redisTemplate.opsForValue().increment(versionKey(userId));
+        evictLocal(userId);
+        return version != null ? version : 0L;
+    }
+
+    public void evictLocal(UUID userId) {
+        invalidations.incrementAndGet();
+        localVersions.invalidate(userId);
+    }
+
+    // version은 박싱된 값이어야 한다. long이면 삼항식이 current(null)를 언박싱해 NPE가 난다.
+    private void putIfNotInvalidated(UUID userId, Long version, long epoch) {
+        localVersions.asMap().compute(userId, (id, current) -> invalidations.get() == epoch ? version : current);
+    }
+
+    private String versionKey(UUID userId) {
+        return "user:status-version:" + userId;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.auth.web;
+
+import com.example.auth.domain.user.UserEntity;
+import com.example.auth.service.UserImportService;
+import com.example.auth.service.UserService;
+import com.example.auth.web.dto.UserImportReport;
+import com.example.auth.web.dto.UserResponse;
+import com.example.auth.web.dto.UserRoleRequest;
+import com.example.auth.web.dto.UserStatusRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+@RestController
+public class AdminUserController {
+
+    private final UserService userService;
+    private final UserImportService userImportService;
+
+    public AdminUserController(UserService userService, UserImportService userImportService) {
+        this.userService = userService;
+        this.userImportService = userImportService;
+    }
+
+    @PatchMapping("/api/v1/admin/users/{userId}/status")
+    public ResponseEntity<UserResponse> changeStatus(@PathVariable UUID userId,
+                                                     @Valid @RequestBody UserStatusRequest request) {
+        return ResponseEntity.ok(toResponse(userService.changeStatus(userId, request.status())));
+    }
+
+    @PatchMapping("/api/v1/admin/users/{userId}/role")
+    public ResponseEntity<UserResponse> changeRole(@PathVariable UUID userId,
+                                                   @Valid @RequestBody UserRoleRequest request) {
+        return ResponseEntity.ok(toResponse(userService.changeRole(userId, request.role())));
+    }
+
+    // NDJSON 본문을 스트리밍으로 읽어 가져온다. 중단되면 마지막으로 처리된 줄을 resumeAfter로 넘겨 이어서 실행한다.
+    @PostMapping(value = "/api/v1/admin/users/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<UserImportReport> importUsers(@RequestParam(defaultValue = "0") long resumeAfter,
+                                                        InputStream body) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(body, resumeAfter, UserImportService.Listener.NONE));
+    }
+
+    private UserResponse toResponse(UserEntity user) {
+        return new UserResponse(user.getId(), user.getEmail(), user.getNickname(), user.getRole().name());
+    }
+}
@@ -2,11 +2,13 @@ package com.example.auth.web;
 
 import com.example.auth.service.AuthService;
 import com.example.auth.web.dto.LoginRequest;
+import com.example.auth.web.dto.LogoutRequest;
 import com.example.auth.web.dto.RefreshRequest;
 import com.example.auth.web.dto.SignupRequest;
 import com.example.auth.web.dto.TokenResponse;
 import com.example.auth.web.dto.UserResponse;
 import com.example.auth.web.dto.ValidateResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
@@ -32,8 +34,8 @@ public class AuthController {
     }
 
     @PostMapping("/api/v1/auth/login")
-    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest request) {
-        TokenResponse tokenResponse = authService.login(request);
+    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest servletRequest) {
+        TokenResponse tokenResponse = authService.login(request, servletRequest.getRemoteAddr());
         return withAccessTokenCookie(tokenResponse);
     }
 
@@ -43,6 +45,19 @@ public class AuthController {
         return withAccessTokenCookie(tokenResponse);
     }
 
+    @PostMapping("/api/v1/auth/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) LogoutRequest request) {
+        authService.logout(authorization, request);
+        return withClearedAccessTokenCookie();
+    }
+
+    @PostMapping("/api/v1/auth/logout/all")
+    public ResponseEntity<Void> logoutAll(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        authService.logoutAll(authorization);
+        return withClearedAccessTokenCookie();
+    }
+
     @GetMapping("/api/v1/auth/validate")
     public ResponseEntity<ValidateResponse> validate(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
         ValidateResponse response = authService.validate(authorization);
@@ -51,6 +66,20 @@ public class AuthController {
                 .body(response);
     }
 
+    private ResponseEntity<Void> withClearedAccessTokenCookie() {
+        ResponseCookie accessTokenCookie = ResponseCookie.from("token", "")
+                .httpOnly(true)
+                .path("/")
+                .sameSite("Lax")
+                .maxAge(0)
+                .secure(false)
+                .build();
+
+        return ResponseEntity.noContent()
+                .header(HttpHeaders.SET_COOKIE, accessTokenCookie.toString())
+                .build();
+    }
+
     private ResponseEntity<TokenResponse> withAccessTokenCookie(TokenResponse tokenResponse) {
         ResponseCookie accessTokenCookie = ResponseCookie.from("token", tokenResponse.accessToken())
                 .httpOnly(true)
@@ -1,27 +1,80 @@
 package com.example.auth.web;
 
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.exception.ApiException;
 import com.example.auth.service.AuthService;
+import com.example.auth.service.ReactiveValidationService;
+import com.example.auth.web.dto.BatchValidateRequest;
+import com.example.auth.web.dto.BatchValidateResponse;
 import com.example.auth.web.dto.ValidateResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @RestController
 public class InternalAuthController {
 
+    private static final String USER_ID_HEADER = "X-User-Id";
+    private static final String USER_EMAIL_HEADER = "X-User-Email";
+    private static final String USER_ROLE_HEADER = "X-User-Role";
+
     private final AuthService authService;
+    private final ReactiveValidationService reactiveValidationService;
+    private final ValidateHeaderCache validateHeaderCache;
 
-    public InternalAuthController(AuthService authService) {
+    public InternalAuthController(AuthService authService,
+                                  ReactiveValidationService reactiveValidationService,
+                                  ValidateHeaderCache validateHeaderCache) {
         this.authService = authService;
+        this.reactiveValidationService = reactiveValidationService;
+        this.validateHeaderCache = validateHeaderCache;
     }
 
     @GetMapping("/auth/validate")
     public ResponseEntity<ValidateResponse> validate(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
         ValidateResponse response = authService.validate(authorization);
         return ResponseEntity.ok()
-                .header("X-User-Id", response.userId().toString())
+                .header(USER_ID_HEADER, response.userId().toString())
                 .body(response);
     }
+
+    // forward-auth 게이트웨이용 헤더 전용 응답. 본문 직렬화 없이 200과 X-User-* 헤더만 보내고, 헤더 값은 사용자별로 재사용한다.
+    // 실패는 사유(만료/비활성/없는 사용자 등)와 관계없이 본문 없는 401이다. JSON 오류 본문을 만들지 않는다.
+    @GetMapping("/auth/validate/headers")
+    public void validateHeaders(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                HttpServletResponse response) {
+        AuthUserView user;
+        try {
+            user = authService.validateUser(authorization);
+        } catch (ApiException ex) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        ValidateHeaderCache.Headers headers = validateHeaderCache.get(user);
+        response.setHeader(USER_ID_HEADER, headers.userId());
+        response.setHeader(USER_EMAIL_HEADER, headers.email());
+        response.setHeader(USER_ROLE_HEADER, headers.role());
+    }
+
+    // 같은 검증을 리액티브 I/O로 수행한다. MVC가 Mono를 비동기 요청으로 처리하므로 Redis 응답을 기다리는 동안 Tomcat 스레드가 풀린다.
+    @GetMapping("/auth/validate/reactive")
+    public Mono<ResponseEntity<ValidateResponse>> validateReactive(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        return reactiveValidationService.validate(authorization)
+                .map(response -> ResponseEntity.ok()
+                        .header(USER_ID_HEADER, response.userId().toString())
+                        .body(response));
+    }
+
+    @PostMapping("/auth/validate/batch")
+    public ResponseEntity<BatchValidateResponse> validateBatch(@Valid @RequestBody BatchValidateRequest request) {
+        return ResponseEntity.ok(authService.validateBatch(request.tokens()));
+    }
 }
@@ -0,0 +1,34 @@
+package com.example.auth.web;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// forward-auth 응답 헤더 값(UUID 문자열 등)을 사용자 단위로 재사용한다.
+// AuthUserView 레코드 자체를 키로 쓰므로 이메일/권한이 바뀌면 다른 키가 되고, 따로 무효화할 필요가 없다.
+@Component
+public class ValidateHeaderCache {
+
+    private final Cache<AuthUserView, Headers> cache;
+
+    public ValidateHeaderCache(@Value("${security.user-cache.max-size}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public Headers get(AuthUserView user) {
+        Headers cached = cache.getIfPresent(user);
+        if (cached != null) {
+            return cached;
+        }
+        Headers headers = new Headers(user.id().toString(), user.email(), user.role().name());
+        cache.put(user, headers);
+        return headers;
+    }
+
+    public record Headers(String userId, String email, String role) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.auth.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchValidateRequest(
+        @NotEmpty
+        @Size(max = 100, message = "At most 100 tokens can be validated at once")
+        List<@NotBlank String> tokens
+) {
+}
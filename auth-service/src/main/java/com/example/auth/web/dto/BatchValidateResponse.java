@@ -0,0 +1,8 @@
+package com.example.auth.web.dto;
+
+import java.util.List;
+
+public record BatchValidateResponse(
+        List<BatchValidateResult> results
+) {
+}
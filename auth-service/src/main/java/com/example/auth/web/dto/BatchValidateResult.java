@@ -0,0 +1,21 @@
+package com.example.auth.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchValidateResult(
+        int index,
+        boolean valid,
+        ValidateResponse user,
+        Integer status,
+        String error
+) {
+
+    public static BatchValidateResult valid(int index, ValidateResponse user) {
+        return new BatchValidateResult(index, true, user, null, null);
+    }
+
+    public static BatchValidateResult invalid(int index, int status, String error) {
+        return new BatchValidateResult(index, false, null, status, error);
+    }
+}
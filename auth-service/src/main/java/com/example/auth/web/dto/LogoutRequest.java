@@ -0,0 +1,7 @@
+package com.example.auth.web.dto;
+
+// refreshToken은 선택 값이다. 함께 보내면 해당 기기의 리프레시 토큰 패밀리도 폐기된다.
+public record LogoutRequest(
+        String refreshToken
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.auth.web.dto;
+
+// 가져오지 못한 행. reason이 "duplicate"이면 이미 가입된 이메일이라 건너뛴 행이다.
+public record UserImportError(
+        long line,
+        String email,
+        String reason
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.auth.web.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+// 일괄 가져오기 NDJSON 한 줄. password(평문)와 passwordHash(기존 시스템의 BCrypt/Argon2 해시) 중 하나만 채운다.
+public record UserImportRecord(
+        @Email(message = "Email must be valid")
+        @NotBlank
+        String email,
+        @NotBlank
+        String nickname,
+        @Size(min = 8, message = "Password must be at least 8 characters")
+        String password,
+        String passwordHash
+) {
+}
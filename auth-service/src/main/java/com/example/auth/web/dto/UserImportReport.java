@@ -0,0 +1,13 @@
+package com.example.auth.web.dto;
+
+import java.util.List;
+
+// lastLine까지는 모두 처리되었다. 중단된 가져오기는 resumeAfter=lastLine 으로 이어서 실행한다.
+public record UserImportReport(
+        long lastLine,
+        long imported,
+        long duplicates,
+        long failed,
+        List<UserImportError> errors
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.auth.web.dto;
+
+import com.example.auth.domain.user.enums.UserRole;
+import jakarta.validation.constraints.NotNull;
+
+public record UserRoleRequest(
+        @NotNull
+        UserRole role
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.auth.web.dto;
+
+import com.example.auth.domain.user.enums.UserStatus;
+import jakarta.validation.constraints.NotNull;
+
+public record UserStatusRequest(
+        @NotNull
+        UserStatus status
+) {
+}
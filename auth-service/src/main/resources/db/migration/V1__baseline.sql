@@ -0,0 +1,21 @@
+-- 엔티티 매핑과 같은 기본 스키마. ddl-auto: update 로 이미 만들어진 DB는 baseline-on-migrate로 이 버전을 건너뛴다.
+CREATE TABLE users (
+    id       uuid         NOT NULL,
+    email    varchar(255) NOT NULL,
+    nickname varchar(255) NOT NULL,
+    role     varchar(255) NOT NULL CHECK (role IN ('USER', 'ADMIN')),
+    status   varchar(255) NOT NULL CHECK (status IN ('ACTIVE', 'INACTIVE')),
+    CONSTRAINT users_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE accounts (
+    id            bigint       NOT NULL,
+    user_id       uuid         NOT NULL,
+    provider      varchar(255) NOT NULL,
+    provider_id   varchar(255) NOT NULL,
+    password_hash varchar(255) NOT NULL,
+    CONSTRAINT accounts_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_accounts_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE SEQUENCE accounts_seq START WITH 1 INCREMENT BY 50;
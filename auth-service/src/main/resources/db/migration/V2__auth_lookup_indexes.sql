@@ -0,0 +1,33 @@
+-- ddl-auto가 만든 이름 없는 유니크 제약을 조회 패턴에 맞춘 인덱스로 교체한다.
+DO $$
+DECLARE
+    legacy record;
+BEGIN
+    FOR legacy IN
+        SELECT c.conrelid::regclass AS table_name, c.conname
+        FROM pg_constraint c
+        WHERE c.contype = 'u'
+          AND c.conrelid IN ('users'::regclass, 'accounts'::regclass)
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', legacy.table_name, legacy.conname);
+    END LOOP;
+END $$;
+
+-- 로그인 조회(provider, provider_id)가 힙을 읽지 않도록 조회 컬럼(id, user_id, password_hash)을 인덱스에 함께 둔다. 유니크 제약도 겸한다.
+CREATE UNIQUE INDEX uk_accounts_provider_provider_id
+    ON accounts (provider, provider_id) INCLUDE (id, user_id, password_hash);
+
+-- 대소문자만 다른 이메일 중복을 막고, lower(email) 조회에 사용된다.
+CREATE UNIQUE INDEX uk_users_email ON users (lower(email));
+
+-- 사용자 삭제/계정 목록 조회 시 FK 조인용.
+CREATE INDEX IF NOT EXISTS idx_accounts_user_id ON accounts (user_id);
+
+-- IDENTITY로 만들어졌던 accounts.id를 시퀀스(pooled-lo, 50 단위) 할당으로 옮긴다.
+ALTER TABLE accounts ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS accounts_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE accounts_seq INCREMENT BY 50;
+SELECT setval('accounts_seq',
+              GREATEST(COALESCE((SELECT max(id) FROM accounts), 0) + 1,
+                       (SELECT last_value FROM accounts_seq) + 50),
+              false);
@@ -0,0 +1,34 @@
+-- 로그인 시도 슬라이딩 윈도 카운터. IP와 계정 한도를 함께 확인하고, 둘 다 여유가 있을 때만 두 카운터를 올린다.
+-- 추정치 = 이전 윈도 카운트 * (남은 비율) + 현재 윈도 카운트
+-- KEYS[1], KEYS[2] = IP 현재/이전 윈도, KEYS[3], KEYS[4] = 계정 현재/이전 윈도
+-- ARGV[1] = IP 한도, ARGV[2] = 계정 한도, ARGV[3] = 윈도 길이(ms), ARGV[4] = 현재 윈도 경과 시간(ms)
+-- 반환: {0, 0} = 허용, {1, retryAfterMs} = IP 한도 초과, {2, retryAfterMs} = 계정 한도 초과
+local window = tonumber(ARGV[3])
+local elapsed = tonumber(ARGV[4])
+
+local function retry_after(current_key, previous_key, limit)
+  local current = tonumber(redis.call('GET', current_key) or '0')
+  local previous = tonumber(redis.call('GET', previous_key) or '0')
+  if previous * (window - elapsed) / window + current < limit then
+    return 0
+  end
+  if current >= limit or previous == 0 then
+    return window - elapsed
+  end
+  return math.max(1, math.ceil((window - elapsed) - (limit - current) * window / previous))
+end
+
+local ip_wait = retry_after(KEYS[1], KEYS[2], tonumber(ARGV[1]))
+if ip_wait > 0 then
+  return {1, ip_wait}
+end
+local account_wait = retry_after(KEYS[3], KEYS[4], tonumber(ARGV[2]))
+if account_wait > 0 then
+  return {2, account_wait}
+end
+
+redis.call('INCR', KEYS[1])
+redis.call('PEXPIRE', KEYS[1], window * 2)
+redis.call('INCR', KEYS[3])
+redis.call('PEXPIRE', KEYS[3], window * 2)
+return {0, 0}
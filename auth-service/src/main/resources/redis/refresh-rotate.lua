@@ -0,0 +1,21 @@
+-- 제시된 리프레시 토큰이 패밀리의 현재 토큰이면 새 토큰으로 교체한다. 조회와 교체를 한 번에 원자적으로 수행한다.
+-- KEYS[1] = refresh:family:{fid}, KEYS[2] = refresh:families:{userId}
+-- ARGV[1] = userId, ARGV[2] = 제시된 토큰 다이제스트, ARGV[3] = 새 토큰 다이제스트, ARGV[4] = TTL(초)
+-- ARGV[5] = 현재 시각(epoch ms)
+-- 반환: 1 = 교체됨, 0 = 알 수 없는(만료/폐기된) 패밀리, -1 = 이미 사용된 토큰 재사용 -> 패밀리 전체 폐기
+local family = redis.call('HMGET', KEYS[1], 'user', 'current')
+if not family[2] or family[1] ~= ARGV[1] then
+  return 0
+end
+if family[2] ~= ARGV[2] then
+  redis.call('DEL', KEYS[1])
+  redis.call('ZREM', KEYS[2], KEYS[1])
+  return -1
+end
+local now = tonumber(ARGV[5])
+redis.call('HSET', KEYS[1], 'current', ARGV[3])
+redis.call('EXPIRE', KEYS[1], ARGV[4])
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+redis.call('ZADD', KEYS[2], now + tonumber(ARGV[4]) * 1000, KEYS[1])
+redis.call('EXPIRE', KEYS[2], ARGV[4])
+return 1
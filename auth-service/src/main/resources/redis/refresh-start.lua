@@ -0,0 +1,12 @@
+-- 새 리프레시 토큰 패밀리(기기 세션)를 만든다.
+-- KEYS[1] = refresh:family:{fid}, KEYS[2] = refresh:families:{userId}
+-- ARGV[1] = userId, ARGV[2] = 토큰 다이제스트, ARGV[3] = TTL(초), ARGV[4] = 현재 시각(epoch ms)
+-- KEYS[2]는 패밀리 키를 만료 시각(epoch ms) 점수로 담는 ZSET이다. 만료된 패밀리는 여기서 함께 정리해
+-- 로그아웃/탈퇴 없이 계속 로그인하는 사용자의 인덱스가 무한히 커지지 않게 한다.
+local now = tonumber(ARGV[4])
+redis.call('HSET', KEYS[1], 'user', ARGV[1], 'current', ARGV[2])
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+redis.call('ZADD', KEYS[2], now + tonumber(ARGV[3]) * 1000, KEYS[1])
+redis.call('EXPIRE', KEYS[2], ARGV[3])
+return 1
@@ -0,0 +1,86 @@
+package com.example.auth.config;
+
+import org.apache.catalina.Valve;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.RemoteIpValve;
+import org.apache.catalina.valves.ValveBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatWebServerFactoryCustomizer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForwardedHeaderTrustTests {
+
+    private static final String SPOOFED_CLIENT = "203.0.113.7";
+
+    @Test
+    void defaultConfigurationIgnoresForwardedForFromPrivatePeer() throws Exception {
+        RemoteIpValve valve = remoteIpValve(Map.of());
+
+        // Docker 브리지 게이트웨이처럼 사설 대역에서 직접 들어온 요청
+        assertThat(resolveRemoteAddr(valve, "172.30.0.1", SPOOFED_CLIENT)).isEqualTo("172.30.0.1");
+        assertThat(resolveRemoteAddr(valve, "10.0.0.5", SPOOFED_CLIENT)).isEqualTo("10.0.0.5");
+        assertThat(resolveRemoteAddr(valve, "127.0.0.1", SPOOFED_CLIENT)).isEqualTo(SPOOFED_CLIENT);
+    }
+
+    @Test
+    void onlyTheConfiguredGatewayMayForwardTheClientAddress() throws Exception {
+        RemoteIpValve valve = remoteIpValve(Map.of("SERVER_TOMCAT_REMOTEIP_INTERNAL_PROXIES", "172\\.30\\.0\\.10"));
+
+        assertThat(resolveRemoteAddr(valve, "172.30.0.10", SPOOFED_CLIENT)).isEqualTo(SPOOFED_CLIENT);
+        assertThat(resolveRemoteAddr(valve, "172.30.0.1", SPOOFED_CLIENT)).isEqualTo("172.30.0.1");
+        assertThat(resolveRemoteAddr(valve, "127.0.0.1", SPOOFED_CLIENT)).isEqualTo("127.0.0.1");
+    }
+
+    // application.yml을 그대로 바인딩해 Boot가 만드는 RemoteIpValve를 얻는다.
+    private static RemoteIpValve remoteIpValve(Map<String, Object> overrides) throws Exception {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("overrides", overrides));
+        for (PropertySource<?> source : new YamlPropertySourceLoader()
+                .load("application.yml", new ClassPathResource("application.yml"))) {
+            environment.getPropertySources().addLast(source);
+        }
+        ServerProperties serverProperties = Binder.get(environment)
+                .bind("server", ServerProperties.class)
+                .get();
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+        new TomcatWebServerFactoryCustomizer(environment, serverProperties).customize(factory);
+        return factory.getEngineValves().stream()
+                .filter(RemoteIpValve.class::isInstance)
+                .map(RemoteIpValve.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static String resolveRemoteAddr(RemoteIpValve valve, String peer, String forwardedFor) throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        Valve next = new ValveBase() {
+            @Override
+            public void invoke(Request request, Response response) {
+                seen.set(request.getRemoteAddr());
+            }
+        };
+        valve.setNext(next);
+
+        Request request = new Request(new Connector());
+        request.setCoyoteRequest(new org.apache.coyote.Request());
+        request.setRemoteAddr(peer);
+        request.setRemoteHost(peer);
+        request.getCoyoteRequest().getMimeHeaders().addValue("X-Forwarded-For").setString(forwardedFor);
+        valve.invoke(request, new Response());
+        return seen.get();
+    }
+}
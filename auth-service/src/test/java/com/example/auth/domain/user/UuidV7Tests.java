@@ -0,0 +1,45 @@
+package com.example.auth.domain.user;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Tests {
+
+    @Test
+    void setsVersionAndVariantBits() {
+        UUID uuid = UuidV7.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void embedsTheCurrentUnixMillis() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        assertThat(UuidV7.timestampMillis(uuid)).isBetween(before, after + 1);
+    }
+
+    @Test
+    void valuesAreUniqueAndSortInCreationOrder() {
+        List<UUID> generated = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            generated.add(UuidV7.next());
+        }
+
+        assertThat(new HashSet<>(generated)).hasSize(generated.size());
+        // Postgres uuid 비교와 같은 부호 없는 바이트 순서로 정렬되어 있어야 한다.
+        for (int i = 1; i < generated.size(); i++) {
+            assertThat(Long.compareUnsigned(generated.get(i - 1).getMostSignificantBits(),
+                    generated.get(i).getMostSignificantBits())).isNegative();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.auth.security;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+import com.example.auth.service.TokenRevocationService;
+import com.example.auth.service.UserStatusCache;
+import com.example.auth.service.UserStatusVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessTokenAuthenticatorTests {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret-test-secret-test-secret";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 900, 604800, "",
+            new JwtKeyRing(JwtSigningAlgorithm.HS512, "", Duration.ZERO), new SimpleMeterRegistry());
+    private final UserStatusCache userStatusCache = mock(UserStatusCache.class);
+    private final UserStatusVersionService versionService = mock(UserStatusVersionService.class);
+    private final TokenRevocationService revocationService = mock(TokenRevocationService.class);
+
+    @Test
+    void statelessBatchReturnsOneResultPerTokenInOrder() {
+        AuthUserView alice = user(UserRole.USER, UserStatus.ACTIVE);
+        AuthUserView bob = user(UserRole.ADMIN, UserStatus.ACTIVE);
+        when(versionService.cachedVersions(anyCollection())).thenReturn(Map.of(alice.id(), 0L, bob.id(), 2L));
+        String aliceToken = jwtTokenProvider.createAccessToken(alice, 0);
+
+        List<AuthenticationResult> results = authenticator(ValidationMode.STATELESS).authenticateAll(List.of(
+                aliceToken,
+                "not-a-jwt",
+                jwtTokenProvider.createAccessToken(bob, 1),
+                jwtTokenProvider.createRefreshToken(alice.id(), "family-1"),
+                aliceToken));
+
+        assertThat(results).hasSize(5);
+        assertThat(results.get(0).user()).isEqualTo(alice);
+        assertFailure(results.get(1), HttpStatus.UNAUTHORIZED, "Invalid or expired token");
+        // bob의 상태 버전이 토큰 발급 이후 올라갔다.
+        assertFailure(results.get(2), HttpStatus.UNAUTHORIZED, "Token invalidated by account change");
+        assertFailure(results.get(3), HttpStatus.UNAUTHORIZED, "Access token required");
+        assertThat(results.get(4).user()).isEqualTo(alice);
+        // 버전 조회는 서명이 유효한 토큰의 사용자만 모아 한 번에 한다.
+        verify(versionService, times(1)).cachedVersions(Set.of(alice.id(), bob.id()));
+    }
+
+    @Test
+    void databaseBatchLoadsUsersOnceAndReportsMissingAndInactiveUsers() {
+        AuthUserView active = user(UserRole.USER, UserStatus.ACTIVE);
+        AuthUserView suspended = user(UserRole.USER, UserStatus.INACTIVE);
+        AuthUserView deleted = user(UserRole.USER, UserStatus.ACTIVE);
+        when(userStatusCache.getAll(anyCollection())).thenReturn(Map.of(active.id(), active, suspended.id(), suspended));
+
+        List<AuthenticationResult> results = authenticator(ValidationMode.DATABASE).authenticateAll(List.of(
+                jwtTokenProvider.createAccessToken(active, 0),
+                jwtTokenProvider.createAccessToken(suspended, 0),
+                jwtTokenProvider.createAccessToken(deleted, 0)));
+
+        assertThat(results.get(0).user()).isEqualTo(active);
+        assertFailure(results.get(1), HttpStatus.FORBIDDEN, "Inactive account");
+        assertFailure(results.get(2), HttpStatus.NOT_FOUND, "User not found");
+        verify(userStatusCache, times(1)).getAll(Set.of(active.id(), suspended.id(), deleted.id()));
+    }
+
+    private AccessTokenAuthenticator authenticator(ValidationMode mode) {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, new SimpleMeterRegistry(), true, 100);
+        return new AccessTokenAuthenticator(verifiedTokenCache, userStatusCache, versionService, revocationService, mode);
+    }
+
+    private static AuthUserView user(UserRole role, UserStatus status) {
+        UUID id = UUID.randomUUID();
+        return new AuthUserView(id, id + "@example.com", role, status);
+    }
+
+    private static void assertFailure(AuthenticationResult result, HttpStatus status, String message) {
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.failure().getStatus()).isEqualTo(status);
+        assertThat(result.failure().getMessage()).isEqualTo(message);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.auth.security;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+import com.example.auth.exception.AuthFailureException;
+import com.example.auth.exception.AuthFailureReason;
+import com.example.auth.service.TokenRevocationService;
+import com.example.auth.service.UserStatusCache;
+import com.example.auth.service.UserStatusVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class JwtAuthenticationFilterTests {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret-test-secret-test-secret";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 900, 604800, "",
+            new JwtKeyRing(JwtSigningAlgorithm.HS512, "", Duration.ZERO), new SimpleMeterRegistry());
+    private final AccessTokenAuthenticator authenticator = new AccessTokenAuthenticator(
+            new VerifiedTokenCache(jwtTokenProvider, new SimpleMeterRegistry(), true, 100),
+            mock(UserStatusCache.class), mock(UserStatusVersionService.class), mock(TokenRevocationService.class),
+            ValidationMode.STATELESS);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(authenticator);
+    private final AuthUserView user = new AuthUserView(UUID.randomUUID(), "user@example.com", UserRole.USER, UserStatus.ACTIVE);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void accessTokenAuthenticatesTheRequest() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("GET", "/api/v1/users/me", jwtTokenProvider.createAccessToken(user, 0)),
+                new MockHttpServletResponse(), chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(((UserPrincipal) authentication.getPrincipal()).getId()).isEqualTo(user.id());
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void refreshTokenOnAProtectedRouteIsRejected() {
+        // 이전 필터는 리프레시 토큰을 조용히 건너뛰고 익명으로 체인을 이어 갔다. 이제는 WRONG_TYPE으로 거절한다.
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletRequest request = request("GET", "/api/v1/users/me",
+                jwtTokenProvider.createRefreshToken(user.id(), "family-1"));
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), chain))
+                .isInstanceOfSatisfying(AuthFailureException.class,
+                        ex -> assertThat(ex.getReason()).isEqualTo(AuthFailureReason.WRONG_TYPE));
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void publicRoutesAreNotFiltered() throws Exception {
+        AccessTokenAuthenticator unused = mock(AccessTokenAuthenticator.class);
+        MockFilterChain chain = new MockFilterChain();
+
+        new JwtAuthenticationFilter(unused).doFilter(request("POST", "/api/v1/auth/refresh",
+                jwtTokenProvider.createRefreshToken(user.id(), "family-1")), new MockHttpServletResponse(), chain);
+
+        verifyNoInteractions(unused);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void requestWithoutTokenContinuesAnonymously() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/users/me"), new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+}
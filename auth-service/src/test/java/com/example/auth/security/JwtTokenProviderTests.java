@@ -0,0 +1,114 @@
+package com.example.auth.security;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+import com.example.auth.exception.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTests {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret-test-secret-test-secret";
+
+    private final JwtTokenProvider provider = provider(JwtSigningAlgorithm.HS512);
+
+    @Test
+    void verifyReturnsAllAccessTokenClaims() {
+        UUID id = UUID.randomUUID();
+        AuthUserView user = new AuthUserView(id, "user@example.com", UserRole.USER, UserStatus.ACTIVE);
+
+        VerifiedToken verified = provider.verify(provider.createAccessToken(user, 3));
+
+        assertThat(verified.userId()).isEqualTo(id);
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.email()).isEqualTo("user@example.com");
+        assertThat(verified.role()).isEqualTo("USER");
+        assertThat(verified.statusVersion()).isEqualTo(3);
+        assertThat(verified.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void verifyRecognizesRefreshTokens() {
+        UUID id = UUID.randomUUID();
+
+        VerifiedToken verified = provider.verify(provider.createRefreshToken(id, "family-1"));
+
+        assertThat(verified.userId()).isEqualTo(id);
+        assertThat(verified.isRefreshToken()).isTrue();
+        assertThat(verified.familyId()).isEqualTo("family-1");
+        assertThat(verified.tokenId()).isNotNull();
+        assertThat(verified.email()).isNull();
+    }
+
+    @Test
+    void verifyRejectsTamperedTokens() {
+        String token = provider.createRefreshToken(UUID.randomUUID(), "family-1");
+
+        assertThatThrownBy(() -> provider.verify(token + "x"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("Invalid or expired token");
+    }
+
+    @Test
+    void asymmetricTokensCarryKidAndArePublishedInJwks() {
+        JwtKeyRing keyRing = new JwtKeyRing(JwtSigningAlgorithm.EDDSA, "", Duration.ZERO);
+        JwtTokenProvider asymmetric = provider(keyRing);
+        UUID id = UUID.randomUUID();
+
+        VerifiedToken verified = asymmetric.verify(asymmetric.createRefreshToken(id, "family-1"));
+
+        assertThat(verified.userId()).isEqualTo(id);
+        assertThat(keyRing.jwksJson()).contains("\"kid\":\"" + keyRing.signingKey().kid() + "\"").contains("\"OKP\"");
+    }
+
+    @Test
+    void asymmetricProviderAcceptsHmacTokensUntilTheCutoff() {
+        UUID id = UUID.randomUUID();
+        String legacyToken = provider.createRefreshToken(id, "family-1");
+        JwtKeyRing keyRing = new JwtKeyRing(JwtSigningAlgorithm.RS256, "", Duration.ZERO);
+        String cutoff = Instant.now().plus(Duration.ofDays(7)).toString();
+
+        assertThat(provider(keyRing, cutoff).verify(legacyToken).userId()).isEqualTo(id);
+    }
+
+    @Test
+    void asymmetricProviderRejectsHmacTokensAfterTheCutoff() {
+        String legacyToken = provider.createRefreshToken(UUID.randomUUID(), "family-1");
+        JwtKeyRing keyRing = new JwtKeyRing(JwtSigningAlgorithm.RS256, "", Duration.ZERO);
+        String cutoff = Instant.now().minusSeconds(1).toString();
+
+        assertThatThrownBy(() -> provider(keyRing, cutoff).verify(legacyToken))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("Invalid or expired token");
+    }
+
+    @Test
+    void asymmetricProviderRejectsHmacTokensWithoutCutoff() {
+        String forged = provider.createAccessToken(
+                new AuthUserView(UUID.randomUUID(), "admin@example.com", UserRole.ADMIN, UserStatus.ACTIVE), 0);
+
+        assertThatThrownBy(() -> provider(JwtSigningAlgorithm.EDDSA).verify(forged))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("Invalid or expired token");
+    }
+
+    private static JwtTokenProvider provider(JwtSigningAlgorithm algorithm) {
+        return provider(new JwtKeyRing(algorithm, "", Duration.ZERO));
+    }
+
+    private static JwtTokenProvider provider(JwtKeyRing keyRing) {
+        return provider(keyRing, "");
+    }
+
+    private static JwtTokenProvider provider(JwtKeyRing keyRing, String acceptLegacyHmacUntil) {
+        return new JwtTokenProvider(SECRET, 900, 604800, acceptLegacyHmacUntil, keyRing, new SimpleMeterRegistry());
+    }
+}
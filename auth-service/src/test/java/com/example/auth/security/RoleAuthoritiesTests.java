@@ -0,0 +1,55 @@
+package com.example.auth.security;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoleAuthoritiesTests {
+
+    @Test
+    void adminInheritsUserAuthority() {
+        assertThat(RoleAuthorities.of(UserRole.ADMIN)).extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USER");
+        assertThat(RoleAuthorities.of(UserRole.USER)).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void everyPrincipalSharesTheSameImmutableList() {
+        UserPrincipal first = UserPrincipal.from(user(UserRole.ADMIN));
+        UserPrincipal second = UserPrincipal.from(user(UserRole.ADMIN));
+
+        assertThat(first.getAuthorities()).isSameAs(second.getAuthorities());
+        assertThatThrownBy(() -> RoleAuthorities.of(UserRole.USER).add(new SimpleGrantedAuthority("ROLE_ADMIN")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void hasRoleChecksSeeTheExpandedHierarchy() {
+        // RoleHierarchy 빈 없이도 ADMIN이 hasRole("USER") 규칙을 통과한다.
+        AuthorityAuthorizationManager<Object> userRule = AuthorityAuthorizationManager.hasRole("USER");
+        AuthorityAuthorizationManager<Object> adminRule = AuthorityAuthorizationManager.hasRole("ADMIN");
+
+        assertThat(userRule.check(() -> authentication(UserRole.ADMIN), new Object()).isGranted()).isTrue();
+        assertThat(adminRule.check(() -> authentication(UserRole.USER), new Object()).isGranted()).isFalse();
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(UserRole role) {
+        UserPrincipal principal = UserPrincipal.from(user(role));
+        return UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+    }
+
+    private static AuthUserView user(UserRole role) {
+        return new AuthUserView(UUID.randomUUID(), "user@example.com", role, UserStatus.ACTIVE);
+    }
+}
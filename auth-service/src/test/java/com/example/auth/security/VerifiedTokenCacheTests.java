@@ -0,0 +1,72 @@
+package com.example.auth.security;
+
+import com.example.auth.exception.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VerifiedTokenCacheTests {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() {
+        VerifiedToken verified = verifiedUntil(Instant.now().plusSeconds(60));
+        when(jwtTokenProvider.verify(TOKEN)).thenReturn(verified);
+        VerifiedTokenCache cache = cache(true);
+
+        assertThat(cache.verify(TOKEN)).isSameAs(verified);
+        assertThat(cache.verify(TOKEN)).isSameAs(verified);
+
+        verify(jwtTokenProvider, times(1)).verify(TOKEN);
+    }
+
+    @Test
+    void cachedResultIsNotServedPastTheTokenExpiry() throws InterruptedException {
+        // 만료 이후에는 캐시가 아니라 서명 검증(여기서는 만료 오류)이 답해야 한다.
+        when(jwtTokenProvider.verify(TOKEN))
+                .thenReturn(verifiedUntil(Instant.now().plusMillis(100)))
+                .thenThrow(new ApiException(HttpStatus.UNAUTHORIZED, "Invalid or expired token"));
+        VerifiedTokenCache cache = cache(true);
+        cache.verify(TOKEN);
+
+        Thread.sleep(200);
+
+        assertThatThrownBy(() -> cache.verify(TOKEN))
+                .isInstanceOf(ApiException.class)
+                .hasMessage("Invalid or expired token");
+        verify(jwtTokenProvider, times(2)).verify(TOKEN);
+    }
+
+    @Test
+    void disabledCacheVerifiesEveryTime() {
+        when(jwtTokenProvider.verify(TOKEN)).thenReturn(verifiedUntil(Instant.now().plusSeconds(60)));
+        VerifiedTokenCache cache = cache(false);
+
+        cache.verify(TOKEN);
+        cache.verify(TOKEN);
+
+        verify(jwtTokenProvider, times(2)).verify(TOKEN);
+    }
+
+    private VerifiedTokenCache cache(boolean enabled) {
+        return new VerifiedTokenCache(jwtTokenProvider, new SimpleMeterRegistry(), enabled, 100);
+    }
+
+    private static VerifiedToken verifiedUntil(Instant expiresAt) {
+        return new VerifiedToken(UUID.randomUUID(), VerifiedToken.ACCESS_TYPE, "jti-1", null, "user@example.com", "USER", 0,
+                Instant.now(), expiresAt);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.auth.service;
+
+import com.example.auth.config.PasswordEncoderConfig;
+import com.example.auth.domain.account.AccountEntity;
+import com.example.auth.domain.account.LoginCredentials;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+import com.example.auth.exception.ApiException;
+import com.example.auth.exception.RetryLaterException;
+import com.example.auth.metrics.AuthMetrics;
+import com.example.auth.repository.AccountRepository;
+import com.example.auth.security.AccessTokenAuthenticator;
+import com.example.auth.security.JwtKeyRing;
+import com.example.auth.security.JwtSigningAlgorithm;
+import com.example.auth.security.JwtTokenProvider;
+import com.example.auth.web.dto.LoginRequest;
+import com.example.auth.web.dto.TokenResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 로그인 성공 시 낮은 비용/접두사 없는 BCrypt 해시를 현재 설정으로 다시 저장하는지 확인한다.
+class AuthServiceLoginTests {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret-test-secret-test-secret";
+    private static final String EMAIL = "user@example.com";
+    private static final String PASSWORD = "Password123";
+    private static final long ACCOUNT_ID = 42L;
+
+    // 테스트 속도를 위해 현재 비용을 5로 둔다. 비용 4 해시는 "이전 설정"으로 만든 해시다.
+    private final PasswordEncoder passwordEncoder =
+            new PasswordEncoderConfig().passwordEncoder("bcrypt", 5, false, Duration.ZERO);
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService hashingService =
+            new PasswordHashingService(passwordEncoder, meterRegistry, 1, 16, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+    @AfterEach
+    void tearDown() {
+        hashingService.shutdown();
+    }
+
+    @Test
+    void unprefixedLowCostHashIsUpgradedOnLogin() {
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        storedHash(legacyHash);
+
+        login(PASSWORD);
+
+        ArgumentCaptor<String> upgraded = ArgumentCaptor.forClass(String.class);
+        verify(accountRepository).upgradePasswordHash(eq(ACCOUNT_ID), eq(legacyHash), upgraded.capture());
+        assertThat(upgraded.getValue()).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordEncoder.matches(PASSWORD, upgraded.getValue())).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(upgraded.getValue())).isFalse();
+        assertThat(meterRegistry.get("auth.password.rehash").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void prefixedLowCostHashIsUpgradedOnLogin() {
+        String lowCostHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+        storedHash(lowCostHash);
+
+        login(PASSWORD);
+
+        verify(accountRepository).upgradePasswordHash(eq(ACCOUNT_ID), eq(lowCostHash), anyString());
+    }
+
+    @Test
+    void currentHashIsLeftAlone() {
+        storedHash(passwordEncoder.encode(PASSWORD));
+
+        login(PASSWORD);
+
+        verify(accountRepository, never()).upgradePasswordHash(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void failedLoginDoesNotUpgrade() {
+        storedHash(new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        assertThatThrownBy(() -> login("wrong-password"))
+                .isInstanceOfSatisfying(ApiException.class,
+                        ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED));
+        verify(accountRepository, never()).upgradePasswordHash(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void busyHashingPoolDoesNotFailTheLogin() {
+        hashingService.shutdown();
+        hashingService = mock(PasswordHashingService.class);
+        storedHash("{bcrypt}$2a$04$legacy");
+        when(hashingService.matches(PASSWORD, "{bcrypt}$2a$04$legacy")).thenReturn(true);
+        when(hashingService.needsUpgrade("{bcrypt}$2a$04$legacy")).thenReturn(true);
+        when(hashingService.rehash(PASSWORD)).thenThrow(new RetryLaterException(HttpStatus.SERVICE_UNAVAILABLE,
+                "Authentication is temporarily overloaded", Duration.ofSeconds(1)));
+
+        assertThat(login(PASSWORD).accessToken()).isNotBlank();
+        verify(accountRepository, never()).upgradePasswordHash(anyLong(), anyString(), anyString());
+    }
+
+    private void storedHash(String passwordHash) {
+        when(accountRepository.findLoginCredentials(AccountEntity.LOCAL_PROVIDER, EMAIL)).thenReturn(Optional.of(
+                new LoginCredentials(ACCOUNT_ID, passwordHash, UUID.randomUUID(), EMAIL, UserRole.USER, UserStatus.ACTIVE)));
+    }
+
+    private TokenResponse login(String password) {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 900, 604800, "",
+                new JwtKeyRing(JwtSigningAlgorithm.HS512, "", Duration.ZERO), meterRegistry);
+        AuthService authService = new AuthService(mock(UserService.class), accountRepository, hashingService,
+                jwtTokenProvider, mock(RefreshTokenService.class), mock(AccessTokenAuthenticator.class),
+                mock(UserStatusVersionService.class), mock(TokenRevocationService.class), mock(LoginRateLimiter.class),
+                new AuthMetrics(meterRegistry));
+        return authService.login(new LoginRequest(EMAIL, password), "203.0.113.7");
+    }
+}
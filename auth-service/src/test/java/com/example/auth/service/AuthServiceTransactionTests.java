@@ -0,0 +1,139 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+import com.example.auth.exception.ApiException;
+import com.example.auth.metrics.AuthMetrics;
+import com.example.auth.repository.AccountRepository;
+import com.example.auth.security.AccessTokenAuthenticator;
+import com.example.auth.security.JwtKeyRing;
+import com.example.auth.security.JwtSigningAlgorithm;
+import com.example.auth.security.JwtTokenProvider;
+import com.example.auth.security.ValidationMode;
+import com.example.auth.security.VerifiedTokenCache;
+import com.example.auth.web.dto.RefreshRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 트랜잭션 프록시를 거친 AuthService가 검증 경로에서 커넥션을 꺼내지 않는지 확인한다.
+// 벤치마크는 프록시 없이 AuthService를 만들므로 이 비용을 볼 수 없다.
+class AuthServiceTransactionTests {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret-test-secret-test-secret";
+
+    private AnnotationConfigApplicationContext context;
+    private AuthService authService;
+    private DataSource dataSource;
+    private String authorizationHeader;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(Config.class);
+        authService = context.getBean(AuthService.class);
+        dataSource = context.getBean(DataSource.class);
+        AuthUserView user = new AuthUserView(UUID.randomUUID(), "user@example.com", UserRole.USER, UserStatus.ACTIVE);
+        authorizationHeader = "Bearer " + context.getBean(JwtTokenProvider.class).createAccessToken(user, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void statelessValidationDoesNotCheckOutAConnection() throws SQLException {
+        assertThat(AopUtils.isAopProxy(authService)).isTrue();
+
+        authService.validate(authorizationHeader);
+        authService.validateUser(authorizationHeader);
+        authService.validateBatch(List.of(authorizationHeader.substring(7), "garbage"));
+
+        verify(dataSource, times(0)).getConnection();
+    }
+
+    @Test
+    void transactionalMethodsStillCheckOutAConnection() throws SQLException {
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest("garbage")))
+                .isInstanceOf(ApiException.class);
+
+        verify(dataSource, times(1)).getConnection();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        DataSource dataSource() throws SQLException {
+            DataSource dataSource = mock(DataSource.class);
+            when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+            return dataSource;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        JwtTokenProvider jwtTokenProvider() {
+            return new JwtTokenProvider(SECRET, 900, 604800, "",
+                    new JwtKeyRing(JwtSigningAlgorithm.HS512, "", Duration.ZERO), new SimpleMeterRegistry());
+        }
+
+        @Bean
+        @SuppressWarnings("unchecked")
+        AuthService authService(JwtTokenProvider jwtTokenProvider) {
+            MeterRegistry meterRegistry = new SimpleMeterRegistry();
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(anyString())).thenReturn("0");
+            when(valueOperations.multiGet(anyList())).thenReturn(List.of("0"));
+            ReactiveStringRedisTemplate reactiveRedisTemplate = mock(ReactiveStringRedisTemplate.class);
+            UserService userService = mock(UserService.class);
+
+            UserStatusVersionService versionService =
+                    new UserStatusVersionService(redisTemplate, reactiveRedisTemplate, Duration.ofMinutes(1), 100);
+            TokenRevocationService revocationService = new TokenRevocationService(redisTemplate, reactiveRedisTemplate,
+                    meterRegistry, 100, 0.001, 900);
+            AccessTokenAuthenticator authenticator = new AccessTokenAuthenticator(
+                    new VerifiedTokenCache(jwtTokenProvider, meterRegistry, true, 100),
+                    new UserStatusCache(userService, meterRegistry, Duration.ofMinutes(1), 100),
+                    versionService, revocationService, ValidationMode.STATELESS);
+            return new AuthService(userService, mock(AccountRepository.class), mock(PasswordHashingService.class),
+                    jwtTokenProvider, mock(RefreshTokenService.class), authenticator, versionService, revocationService,
+                    mock(LoginRateLimiter.class), new AuthMetrics(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.auth.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// login-rate-limit.lua를 실제 Redis에서 실행해 슬라이딩 윈도 추정치와 Retry-After 계산을 확인한다.
+@Testcontainers(disabledWithoutDocker = true)
+class LoginRateLimitScriptTests {
+
+    private static final long WINDOW = 60_000;
+    private static final int IP_LIMIT = 10;
+    private static final int ACCOUNT_LIMIT = 5;
+    private static final List<String> KEYS = List.of("ip:cur", "ip:prev", "account:cur", "account:prev");
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List<Long>> SCRIPT =
+            (RedisScript) RedisScript.of(new ClassPathResource("redis/login-rate-limit.lua"), List.class);
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    void allowedAttemptIncrementsBothCurrentWindows() {
+        assertThat(run(0)).containsExactly(0L, 0L);
+
+        assertThat(redisTemplate.opsForValue().get("ip:cur")).isEqualTo("1");
+        assertThat(redisTemplate.opsForValue().get("account:cur")).isEqualTo("1");
+        assertThat(redisTemplate.getExpire("ip:cur")).isBetween(WINDOW / 1000, 2 * WINDOW / 1000);
+    }
+
+    @Test
+    void previousWindowIsWeightedByTheRemainingFraction() {
+        // 이전 윈도 10건의 절반 + 현재 4건 = 9 < 10
+        set("ip:prev", 10);
+        set("ip:cur", 4);
+
+        assertThat(run(WINDOW / 2)).containsExactly(0L, 0L);
+        // 이전 윈도 절반 5 + 현재 5 = 10: 한도에 닿는다.
+        assertThat(run(WINDOW / 2)).first().isEqualTo(1L);
+    }
+
+    @Test
+    void retryAfterIsTheTimeUntilTheEstimateDropsBelowTheLimit() {
+        // 20 * (60000 - e) / 60000 + 5 < 10 이 되려면 e > 45000 이어야 한다.
+        set("ip:prev", 20);
+        set("ip:cur", 5);
+
+        assertThat(run(WINDOW / 2)).containsExactly(1L, 15_000L);
+    }
+
+    @Test
+    void fullCurrentWindowWaitsForTheNextWindow() {
+        set("ip:cur", IP_LIMIT);
+
+        assertThat(run(20_000)).containsExactly(1L, WINDOW - 20_000);
+    }
+
+    @Test
+    void accountRejectionDoesNotConsumeTheIpBudget() {
+        set("account:cur", ACCOUNT_LIMIT);
+
+        assertThat(run(20_000)).containsExactly(2L, WINDOW - 20_000);
+        assertThat(redisTemplate.opsForValue().get("ip:cur")).isNull();
+    }
+
+    private List<Long> run(long elapsedMillis) {
+        return redisTemplate.execute(SCRIPT, KEYS, String.valueOf(IP_LIMIT), String.valueOf(ACCOUNT_LIMIT),
+                String.valueOf(WINDOW), String.valueOf(elapsedMillis));
+    }
+
+    private void set(String key, int count) {
+        redisTemplate.opsForValue().set(key, String.valueOf(count));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.auth.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRateLimiterTests {
+
+    // 한도 4, 윈도 64초: 16초마다 토큰 하나가 정확히 보충된다.
+    private static final int LIMIT = 4;
+    private static final long WINDOW_MILLIS = 64_000;
+    private static final long REFILL_INTERVAL = WINDOW_MILLIS / LIMIT;
+
+    @Test
+    void bucketAllowsCapacityThenReportsTimeUntilNextToken() {
+        LoginRateLimiter.TokenBucket bucket = drainedBucket(0);
+
+        assertThat(bucket.tryAcquire(0)).isEqualTo(REFILL_INTERVAL);
+        assertThat(bucket.tryAcquire(4_000)).isEqualTo(REFILL_INTERVAL - 4_000);
+    }
+
+    @Test
+    void bucketRefillsOneTokenPerInterval() {
+        LoginRateLimiter.TokenBucket bucket = drainedBucket(0);
+
+        assertThat(bucket.tryAcquire(REFILL_INTERVAL - 1)).isEqualTo(1);
+        assertThat(bucket.tryAcquire(REFILL_INTERVAL)).isZero();
+        assertThat(bucket.tryAcquire(REFILL_INTERVAL)).isEqualTo(REFILL_INTERVAL);
+    }
+
+    @Test
+    void bucketDoesNotRefillBeyondCapacityAfterIdling() {
+        LoginRateLimiter.TokenBucket bucket = drainedBucket(0);
+
+        long now = 10 * WINDOW_MILLIS;
+        for (int i = 0; i < LIMIT; i++) {
+            assertThat(bucket.tryAcquire(now)).isZero();
+        }
+        assertThat(bucket.tryAcquire(now)).isPositive();
+    }
+
+    @Test
+    void bucketIgnoresTimestampsThatGoBackwards() {
+        LoginRateLimiter.TokenBucket bucket = bucket(WINDOW_MILLIS);
+        for (int i = 0; i < LIMIT - 1; i++) {
+            bucket.tryAcquire(WINDOW_MILLIS);
+        }
+
+        assertThat(bucket.tryAcquire(WINDOW_MILLIS - 10_000)).isZero();
+        assertThat(bucket.tryAcquire(WINDOW_MILLIS + REFILL_INTERVAL)).isZero();
+    }
+
+    private static LoginRateLimiter.TokenBucket drainedBucket(long now) {
+        LoginRateLimiter.TokenBucket bucket = bucket(now);
+        for (int i = 0; i < LIMIT; i++) {
+            assertThat(bucket.tryAcquire(now)).isZero();
+        }
+        return bucket;
+    }
+
+    private static LoginRateLimiter.TokenBucket bucket(long now) {
+        return new LoginRateLimiter.TokenBucket(LIMIT, (double) LIMIT / WINDOW_MILLIS, now);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.auth.service;
+
+import com.example.auth.exception.GlobalExceptionHandler;
+import com.example.auth.exception.RetryLaterException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordHashingServiceTests {
+
+    private static final Duration RETRY_AFTER = Duration.ofMillis(1500);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService hashingService;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hashingService != null) {
+            hashingService.shutdown();
+        }
+    }
+
+    @Test
+    void fullQueueIsRejectedWithRetryAfter() throws InterruptedException {
+        // 스레드 1개, 대기열 1칸: 실행 중 1건 + 대기 1건이면 가득 찬다.
+        hashingService = new PasswordHashingService(passwordEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5), RETRY_AFTER);
+        when(passwordEncoder.encode(any())).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+        CompletableFuture.runAsync(() -> hashingService.encode("first"));
+        CompletableFuture.runAsync(() -> hashingService.encode("second"));
+        awaitQueued(1);
+
+        assertThatThrownBy(() -> hashingService.encode("third"))
+                .isInstanceOfSatisfying(RetryLaterException.class, ex -> {
+                    assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(ex.getRetryAfter()).isEqualTo(RETRY_AFTER);
+                });
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void hashingThatOutlivesTheWaitTimeoutIsRejected() {
+        hashingService = new PasswordHashingService(passwordEncoder, meterRegistry, 1, 1, Duration.ofMillis(50), RETRY_AFTER);
+        when(passwordEncoder.matches(any(), any())).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+
+        assertThatThrownBy(() -> hashingService.matches("password", "hash"))
+                .isInstanceOf(RetryLaterException.class);
+    }
+
+    @Test
+    void rejectionIsRendered503WithRetryAfterInWholeSeconds() {
+        RetryLaterException ex = new RetryLaterException(HttpStatus.SERVICE_UNAVAILABLE,
+                "Authentication is temporarily overloaded", RETRY_AFTER);
+
+        ResponseEntity<Map<String, Object>> response = new GlobalExceptionHandler().handleRetryLaterException(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        // 1.5초는 올림해 2초로 알린다.
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
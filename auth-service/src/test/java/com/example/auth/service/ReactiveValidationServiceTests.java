@@ -0,0 +1,112 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+import com.example.auth.exception.AuthFailureException;
+import com.example.auth.exception.AuthFailureReason;
+import com.example.auth.metrics.AuthMetrics;
+import com.example.auth.security.AccessTokenAuthenticator;
+import com.example.auth.security.JwtKeyRing;
+import com.example.auth.security.JwtSigningAlgorithm;
+import com.example.auth.security.JwtTokenProvider;
+import com.example.auth.security.ValidationMode;
+import com.example.auth.security.VerifiedTokenCache;
+import com.example.auth.web.dto.ValidateResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactiveValidationServiceTests {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret-test-secret-test-secret";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 900, 604800, "",
+            new JwtKeyRing(JwtSigningAlgorithm.HS512, "", Duration.ZERO), meterRegistry);
+    private final UserStatusVersionService versionService = mock(UserStatusVersionService.class);
+    private final TokenRevocationService revocationService = mock(TokenRevocationService.class);
+    private final AuthUserView user = new AuthUserView(UUID.randomUUID(), "user@example.com", UserRole.USER, UserStatus.ACTIVE);
+    private ReactiveValidationService validationService;
+
+    @BeforeEach
+    void setUp() {
+        when(revocationService.isRevokedAsync(any())).thenReturn(Mono.just(false));
+        when(versionService.cachedVersionAsync(user.id())).thenReturn(Mono.just(0L));
+        AccessTokenAuthenticator authenticator = new AccessTokenAuthenticator(
+                new VerifiedTokenCache(jwtTokenProvider, meterRegistry, true, 100),
+                mock(UserStatusCache.class), versionService, revocationService, ValidationMode.STATELESS);
+        validationService = new ReactiveValidationService(authenticator, new AuthMetrics(meterRegistry));
+    }
+
+    @Test
+    void validTokenResolvesToTheUser() {
+        ValidateResponse response = validationService.validate(bearer(0)).block();
+
+        assertThat(response).isEqualTo(new ValidateResponse(user.id(), user.email(), "USER"));
+    }
+
+    @Test
+    void missingHeaderIsSignalledThroughTheMono() {
+        // 조립 단계에서 던지지 않고 구독 시점에 오류 신호로 전달한다.
+        Mono<ValidateResponse> result = validationService.validate(null);
+
+        assertFailure(result, AuthFailureReason.MISSING_TOKEN);
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThatThrownBy(() -> validationService.validate("Bearer not-a-jwt").block())
+                .isInstanceOf(AuthFailureException.class)
+                .hasMessage("Invalid or expired token");
+        assertThat(meterRegistry.get("auth.validate_reactive").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void revokedTokenIsRejected() {
+        when(revocationService.isRevokedAsync(any())).thenReturn(Mono.just(true));
+
+        assertFailure(validationService.validate(bearer(0)), AuthFailureReason.REVOKED);
+    }
+
+    @Test
+    void tokenOlderThanTheStatusVersionIsRejected() {
+        when(versionService.cachedVersionAsync(user.id())).thenReturn(Mono.just(1L));
+
+        assertFailure(validationService.validate(bearer(0)), AuthFailureReason.STALE_STATUS);
+    }
+
+    @Test
+    void cancelledValidationIsTimedAsCancelled() {
+        when(revocationService.isRevokedAsync(any())).thenReturn(Mono.never());
+
+        Disposable subscription = validationService.validate(bearer(0)).subscribe();
+        subscription.dispose();
+
+        assertThat(meterRegistry.get("auth.validate_reactive").tag("outcome", "cancelled").timer().count()).isEqualTo(1);
+    }
+
+    private String bearer(long statusVersion) {
+        return "Bearer " + jwtTokenProvider.createAccessToken(user, statusVersion);
+    }
+
+    private void assertFailure(Mono<ValidateResponse> result, AuthFailureReason reason) {
+        assertThatThrownBy(result::block)
+                .isInstanceOfSatisfying(AuthFailureException.class, ex -> assertThat(ex.getReason()).isEqualTo(reason));
+        assertThat(meterRegistry.get("auth.failures")
+                .tag("operation", "validate_reactive")
+                .tag("reason", reason.tag())
+                .counter().count()).isEqualTo(1);
+    }
+}
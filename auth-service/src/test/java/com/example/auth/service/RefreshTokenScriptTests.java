@@ -0,0 +1,136 @@
+package com.example.auth.service;
+
+import com.example.auth.security.TokenDigests;
+import com.example.auth.service.RefreshTokenService.RotationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// refresh-start.lua / refresh-rotate.lua를 실제 Redis에서 RefreshTokenService를 통해 실행한다.
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenScriptTests {
+
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final String FAMILY_ID = "family-1";
+    private static final String FAMILY_KEY = "refresh:family:" + FAMILY_ID;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final UUID userId = UUID.randomUUID();
+    private final String familiesKey = "refresh:families:" + userId;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        refreshTokenService = new RefreshTokenService(redisTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void rotationReplacesTheCurrentTokenInOneStep() {
+        refreshTokenService.startFamily(userId, FAMILY_ID, "token-1", TTL);
+
+        assertThat(refreshTokenService.rotate(userId, FAMILY_ID, "token-1", "token-2", TTL))
+                .isEqualTo(RotationResult.ROTATED);
+        assertThat(redisTemplate.opsForHash().get(FAMILY_KEY, "current")).isEqualTo(TokenDigests.sha256("token-2"));
+        assertThat(refreshTokenService.rotate(userId, FAMILY_ID, "token-2", "token-3", TTL))
+                .isEqualTo(RotationResult.ROTATED);
+    }
+
+    @Test
+    void rotatingTheSameTokenTwiceRevokesTheFamily() {
+        refreshTokenService.startFamily(userId, FAMILY_ID, "token-1", TTL);
+
+        assertThat(refreshTokenService.rotate(userId, FAMILY_ID, "token-1", "token-2", TTL))
+                .isEqualTo(RotationResult.ROTATED);
+        assertThat(refreshTokenService.rotate(userId, FAMILY_ID, "token-1", "token-3", TTL))
+                .isEqualTo(RotationResult.REUSED);
+
+        assertThat(redisTemplate.hasKey(FAMILY_KEY)).isFalse();
+        assertThat(redisTemplate.opsForZSet().score(familiesKey, FAMILY_KEY)).isNull();
+        // 정상 사용자가 가진 최신 토큰도 더 이상 쓸 수 없다.
+        assertThat(refreshTokenService.rotate(userId, FAMILY_ID, "token-2", "token-4", TTL))
+                .isEqualTo(RotationResult.UNKNOWN);
+    }
+
+    @Test
+    void anotherUsersTokenDoesNotTouchTheFamily() {
+        refreshTokenService.startFamily(userId, FAMILY_ID, "token-1", TTL);
+
+        assertThat(refreshTokenService.rotate(UUID.randomUUID(), FAMILY_ID, "other", "token-2", TTL))
+                .isEqualTo(RotationResult.UNKNOWN);
+        assertThat(redisTemplate.opsForHash().get(FAMILY_KEY, "current")).isEqualTo(TokenDigests.sha256("token-1"));
+    }
+
+    @Test
+    void familyAndIndexExpireWithTheRefreshToken() {
+        long before = System.currentTimeMillis();
+        refreshTokenService.startFamily(userId, FAMILY_ID, "token-1", TTL);
+        refreshTokenService.rotate(userId, FAMILY_ID, "token-1", "token-2", TTL);
+        long after = System.currentTimeMillis();
+
+        assertThat(redisTemplate.getExpire(FAMILY_KEY)).isBetween(TTL.toSeconds() - 5, TTL.toSeconds());
+        assertThat(redisTemplate.getExpire(familiesKey)).isBetween(TTL.toSeconds() - 5, TTL.toSeconds());
+        // ZSET 점수는 패밀리의 만료 시각(epoch ms)이다.
+        assertThat(redisTemplate.opsForZSet().score(familiesKey, FAMILY_KEY))
+                .isBetween((double) before + TTL.toMillis(), (double) after + TTL.toMillis());
+    }
+
+    @Test
+    void expiredFamiliesArePrunedFromTheIndex() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(familiesKey, "refresh:family:expired", now - 1_000);
+        redisTemplate.opsForZSet().add(familiesKey, "refresh:family:live", now + TTL.toMillis());
+
+        refreshTokenService.startFamily(userId, FAMILY_ID, "token-1", TTL);
+
+        assertThat(redisTemplate.opsForZSet().range(familiesKey, 0, -1))
+                .containsExactlyInAnyOrder("refresh:family:live", FAMILY_KEY);
+    }
+
+    @Test
+    void deleteRemovesEveryFamilyOfTheUser() {
+        refreshTokenService.startFamily(userId, FAMILY_ID, "token-1", TTL);
+        refreshTokenService.startFamily(userId, "family-2", "token-2", TTL);
+
+        refreshTokenService.delete(userId);
+
+        assertThat(redisTemplate.hasKey(FAMILY_KEY)).isFalse();
+        assertThat(redisTemplate.hasKey("refresh:family:family-2")).isFalse();
+        assertThat(redisTemplate.hasKey(familiesKey)).isFalse();
+    }
+}
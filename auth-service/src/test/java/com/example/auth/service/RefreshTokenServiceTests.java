@@ -0,0 +1,95 @@
+package com.example.auth.service;
+
+import com.example.auth.security.TokenDigests;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Redis에는 리프레시 토큰 원문 대신 SHA-256 다이제스트만 전달되는지 확인한다. 스크립트 동작은 RefreshTokenScriptTests가 다룬다.
+class RefreshTokenServiceTests {
+
+    // 실제 리프레시 토큰과 비슷한 길이의 JWT 모양 문자열
+    private static final String TOKEN = "eyJhbGciOiJIUzUxMiJ9." + "a".repeat(300) + "." + "b".repeat(86);
+    private static final String NEW_TOKEN = "eyJhbGciOiJIUzUxMiJ9." + "c".repeat(300) + "." + "d".repeat(86);
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final UUID userId = UUID.randomUUID();
+    private final List<String> keys = List.of("refresh:family:family-1", "refresh:families:" + userId);
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(redisTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void digestIsA43CharacterUrlSafeHash() {
+        String digest = TokenDigests.sha256(TOKEN);
+
+        assertThat(digest).hasSize(43).matches("[A-Za-z0-9_-]+");
+        assertThat(TokenDigests.sha256(TOKEN)).isEqualTo(digest);
+        assertThat(TokenDigests.sha256(NEW_TOKEN)).isNotEqualTo(digest);
+    }
+
+    @Test
+    void newFamilyStoresOnlyTheDigest() {
+        refreshTokenService.startFamily(userId, "family-1", TOKEN, TTL);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(keys),
+                eq(userId.toString()), eq(TokenDigests.sha256(TOKEN)), eq(String.valueOf(TTL.toSeconds())), anyString());
+    }
+
+    @Test
+    void rotationComparesAndStoresDigests() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(keys), any(Object[].class))).thenReturn(1L);
+
+        assertThat(refreshTokenService.rotate(userId, "family-1", TOKEN, NEW_TOKEN, TTL))
+                .isEqualTo(RefreshTokenService.RotationResult.ROTATED);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(keys), eq(userId.toString()),
+                eq(TokenDigests.sha256(TOKEN)), eq(TokenDigests.sha256(NEW_TOKEN)),
+                eq(String.valueOf(TTL.toSeconds())), anyString());
+    }
+
+    @Test
+    void legacyTokenIsAcceptedOnce() {
+        ValueOperations<String, String> valueOperations = legacyValue(TOKEN);
+
+        assertThat(refreshTokenService.consumeLegacy(userId, TOKEN)).isTrue();
+        assertThat(refreshTokenService.consumeLegacy(userId, TOKEN)).isFalse();
+        verify(valueOperations, times(2)).getAndDelete("refresh:" + userId);
+    }
+
+    @Test
+    void legacyKeyIsDroppedEvenWhenTheTokenDiffers() {
+        legacyValue(TOKEN);
+
+        assertThat(refreshTokenService.consumeLegacy(userId, NEW_TOKEN)).isFalse();
+        assertThat(refreshTokenService.consumeLegacy(userId, TOKEN)).isFalse();
+    }
+
+    private ValueOperations<String, String> legacyValue(String stored) {
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.getAndDelete("refresh:" + userId)).thenReturn(stored, (String) null);
+        return valueOperations;
+    }
+}
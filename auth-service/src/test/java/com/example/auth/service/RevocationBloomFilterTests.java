@@ -0,0 +1,35 @@
+package com.example.auth.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevocationBloomFilterTests {
+
+    private static final int INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void neverReportsAnInsertedKeyAsAbsent() {
+        RevocationBloomFilter filter = RevocationBloomFilter.create(INSERTIONS, FALSE_POSITIVE_RATE);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("revoked:jti:" + i));
+
+        assertThat(IntStream.range(0, INSERTIONS)).allMatch(i -> filter.mightContain("revoked:jti:" + i));
+    }
+
+    @Test
+    void falsePositiveRateStaysWithinBudgetAtExpectedLoad() {
+        RevocationBloomFilter filter = RevocationBloomFilter.create(INSERTIONS, FALSE_POSITIVE_RATE);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("revoked:user:" + UUID.randomUUID()));
+
+        int probes = 100_000;
+        long falsePositives = IntStream.range(0, probes)
+                .filter(i -> filter.mightContain("revoked:jti:" + UUID.randomUUID()))
+                .count();
+
+        assertThat((double) falsePositives / probes).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.auth.service;
+
+import com.example.auth.security.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTests {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        service = newService();
+    }
+
+    @Test
+    void tokensMissingFromTheFilterSkipRedis() {
+        assertThat(service.isRevoked(token(UUID.randomUUID(), "jti-1", Instant.now()))).isFalse();
+
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    void revokedTokenIdIsReported() {
+        service.revokeToken("jti-1", Instant.now().plusSeconds(60));
+        when(valueOperations.multiGet(eq(List.of("revoked:jti:jti-1")))).thenReturn(List.of("1"));
+
+        assertThat(service.isRevoked(token(UUID.randomUUID(), "jti-1", Instant.now()))).isTrue();
+    }
+
+    @Test
+    void userCutoffRevokesOnlyTokensIssuedStrictlyBeforeIt() {
+        UUID userId = UUID.randomUUID();
+        service.revokeUser(userId);
+        long cutoff = Instant.now().getEpochSecond();
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of(String.valueOf(cutoff)));
+
+        assertThat(service.isRevoked(token(userId, null, Instant.ofEpochSecond(cutoff - 1)))).isTrue();
+        assertThat(service.isRevoked(token(userId, null, Instant.ofEpochSecond(cutoff)))).isFalse();
+    }
+
+    @Test
+    void emptyMgetValuesAreTreatedAsAbsent() {
+        UUID userId = UUID.randomUUID();
+        service.revokeToken("jti-1", Instant.now().plusSeconds(60));
+        service.revokeUser(userId);
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of("", ""));
+
+        assertThat(service.isRevoked(token(userId, "jti-1", Instant.now().minusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    void revocationMadeWhileTheFilterIsRebuiltSurvivesTheSwap() {
+        // Redis 스냅샷을 읽은 직후, 새 필터로 바꾸기 전에 이 노드에서 폐기가 일어난다.
+        when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            service.revokeToken("jti-1", Instant.now().plusSeconds(60));
+            return Set.of();
+        });
+        when(valueOperations.multiGet(eq(List.of("revoked:jti:jti-1")))).thenReturn(List.of("1"));
+
+        service.sync();
+
+        assertThat(service.isRevoked(token(UUID.randomUUID(), "jti-1", Instant.now()))).isTrue();
+    }
+
+    @Test
+    void filterIsLoadedDuringBeanInitialization() {
+        when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Set.of("revoked:jti:jti-1"));
+        when(valueOperations.multiGet(eq(List.of("revoked:jti:jti-1")))).thenReturn(List.of("1"));
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(TokenRevocationService.class, this::newService);
+            context.refresh();
+
+            // 첫 주기 동기화 전에도 다른 노드가 폐기한 토큰이 걸린다.
+            assertThat(context.getBean(TokenRevocationService.class)
+                    .isRevoked(token(UUID.randomUUID(), "jti-1", Instant.now()))).isTrue();
+        }
+    }
+
+    private TokenRevocationService newService() {
+        return new TokenRevocationService(redisTemplate, mock(ReactiveStringRedisTemplate.class),
+                new SimpleMeterRegistry(), 1000, 0.001, 900);
+    }
+
+    private static VerifiedToken token(UUID userId, String tokenId, Instant issuedAt) {
+        return new VerifiedToken(userId, VerifiedToken.ACCESS_TYPE, tokenId, null, "user@example.com", "USER", 0,
+                issuedAt, issuedAt.plusSeconds(900));
+    }
+}
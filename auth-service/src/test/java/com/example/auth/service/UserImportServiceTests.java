@@ -0,0 +1,151 @@
+package com.example.auth.service;
+
+import com.example.auth.repository.UserBulkInsertRepository;
+import com.example.auth.repository.UserBulkInsertRepository.NewLocalUser;
+import com.example.auth.web.dto.UserImportError;
+import com.example.auth.web.dto.UserImportReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserImportServiceTests {
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private final UserBulkInsertRepository repository = mock(UserBulkInsertRepository.class);
+    private final List<NewLocalUser> inserted = new ArrayList<>();
+    private Set<String> existingEmails = Set.of();
+    private UserImportService service;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findExistingEmails(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            return emails.stream().filter(existingEmails::contains).collect(Collectors.toSet());
+        });
+        when(repository.allocateAccountIds(anyInt())).thenAnswer(invocation ->
+                LongStream.rangeClosed(1, invocation.<Integer>getArgument(0)).toArray());
+        when(repository.insertLocalUsers(anyList())).thenAnswer(invocation -> {
+            List<NewLocalUser> users = invocation.getArgument(0);
+            inserted.addAll(users);
+            return users.stream().map(NewLocalUser::id).collect(Collectors.toSet());
+        });
+        service = new UserImportService(repository, passwordEncoder, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), new SimpleMeterRegistry(), 100, 1, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void invalidRowsAreRejectedWithoutStoppingTheImport() throws IOException {
+        UserImportReport report = importLines(
+                "{\"email\":\"ok@example.com\",\"nickname\":\"ok\",\"password\":\"password1\"}",
+                "{\"email\":\"not-an-email\",\"nickname\":\"bad\",\"password\":\"password1\"}",
+                "{\"email\":\"short@example.com\",\"nickname\":\"short\",\"password\":\"pw\"}",
+                "{\"email\":\"both@example.com\",\"nickname\":\"both\",\"password\":\"password1\",\"passwordHash\":\"x\"}",
+                "null",
+                "{broken",
+                "   ");
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(5);
+        assertThat(report.lastLine()).isEqualTo(7);
+        assertThat(report.errors()).extracting(UserImportError::line).containsExactly(2L, 3L, 4L, 5L, 6L);
+        assertThat(report.errors()).filteredOn(error -> error.line() >= 5)
+                .extracting(UserImportError::reason).containsOnly("Malformed JSON");
+        assertThat(report.errors().get(2).reason()).isEqualTo("Exactly one of password or passwordHash is required");
+    }
+
+    @Test
+    void plainPasswordsAreHashedAndEmailsNormalized() throws IOException {
+        importLines("{\"email\":\"Plain@Example.COM\",\"nickname\":\" plain \",\"password\":\"password1\"}");
+
+        NewLocalUser user = inserted.get(0);
+        assertThat(user.email()).isEqualTo("plain@example.com");
+        assertThat(user.nickname()).isEqualTo("plain");
+        assertThat(passwordEncoder.matches("password1", user.passwordHash())).isTrue();
+    }
+
+    @Test
+    void existingHashesAreKeptAndBareBcryptGetsAPrefix() throws IOException {
+        String bcrypt = passwordEncoder.encode("password1");
+        String argon2 = "{argon2}$argon2id$v=19$m=16384,t=2,p=1$c2FsdA$aGFzaA";
+
+        UserImportReport report = importLines(
+                hashRow("bare@example.com", bcrypt),
+                hashRow("prefixed@example.com", "{bcrypt}" + bcrypt),
+                hashRow("argon@example.com", argon2),
+                hashRow("md5@example.com", "5f4dcc3b5aa765d61d8327deb882cf99"));
+
+        assertThat(inserted).extracting(NewLocalUser::passwordHash)
+                .containsExactly("{bcrypt}" + bcrypt, "{bcrypt}" + bcrypt, argon2);
+        assertThat(report.errors()).singleElement()
+                .extracting(UserImportError::reason).isEqualTo("Unsupported passwordHash format");
+    }
+
+    @Test
+    void duplicatesInTheBatchAndExistingEmailsAreSkipped() throws IOException {
+        existingEmails = Set.of("taken@example.com");
+
+        UserImportReport report = importLines(
+                "{\"email\":\"dup@example.com\",\"nickname\":\"first\",\"password\":\"password1\"}",
+                "{\"email\":\"DUP@example.com\",\"nickname\":\"second\",\"password\":\"password1\"}",
+                "{\"email\":\"taken@example.com\",\"nickname\":\"taken\",\"password\":\"password1\"}");
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.duplicates()).isEqualTo(2);
+        assertThat(inserted).extracting(NewLocalUser::nickname).containsExactly("first");
+        assertThat(report.errors()).extracting(UserImportError::line).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    void resumeSkipsLinesUpToTheCheckpoint() throws IOException {
+        String input = String.join("\n",
+                "{\"email\":\"one@example.com\",\"nickname\":\"one\",\"password\":\"password1\"}",
+                "{broken",
+                "{\"email\":\"three@example.com\",\"nickname\":\"three\",\"password\":\"password1\"}");
+
+        UserImportReport report = service.importUsers(stream(input), 2, UserImportService.Listener.NONE);
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.failed()).isZero();
+        assertThat(report.lastLine()).isEqualTo(3);
+        assertThat(inserted).extracting(NewLocalUser::email).containsExactly("three@example.com");
+    }
+
+    private UserImportReport importLines(String... lines) throws IOException {
+        return service.importUsers(stream(String.join("\n", lines)), 0, UserImportService.Listener.NONE);
+    }
+
+    private static String hashRow(String email, String passwordHash) {
+        return "{\"email\":\"" + email + "\",\"nickname\":\"n\",\"passwordHash\":\"" + passwordHash + "\"}";
+    }
+
+    private static ByteArrayInputStream stream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+}
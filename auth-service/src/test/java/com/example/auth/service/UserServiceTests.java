@@ -0,0 +1,66 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.account.AccountEntity;
+import com.example.auth.domain.user.UserEntity;
+import com.example.auth.exception.ApiException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 중복 가입의 409 변환은 Flyway가 만든 제약/인덱스 이름에 의존하므로 실제 PostgreSQL 스키마로 확인한다.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(UserService.class)
+class UserServiceTests {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void registersNewUser() {
+        UserEntity saved = userService.register(localUser("new@example.com"));
+
+        assertThat(saved.getId()).isNotNull();
+    }
+
+    @Test
+    void duplicateEmailIsRejectedWithConflict() {
+        userService.register(localUser("dup@example.com"));
+
+        assertConflict(() -> userService.register(localUser("dup@example.com")));
+    }
+
+    @Test
+    void emailDifferingOnlyInCaseIsRejectedWithConflict() {
+        userService.register(localUser("case@example.com"));
+
+        assertConflict(() -> userService.register(localUser("Case@Example.COM")));
+    }
+
+    private static void assertConflict(Runnable signup) {
+        assertThatThrownBy(signup::run)
+                .isInstanceOfSatisfying(ApiException.class,
+                        ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    private static UserEntity localUser(String email) {
+        UserEntity user = UserEntity.create(email, "nickname");
+        user.addAccount(AccountEntity.ofLocal(email, "{bcrypt}$2a$10$abcdefghijklmnopqrstuuJ1y3wD2Bf3jQ8N2h5eO1kqvJpA1xW6"));
+        return user;
+    }
+}
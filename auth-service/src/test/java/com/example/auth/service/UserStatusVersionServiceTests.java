@@ -0,0 +1,91 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.user.UserAccessChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserStatusVersionServiceTests {
+
+    private static final String CHANNEL = "auth:user-invalidation";
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final UserStatusCache userStatusCache = mock(UserStatusCache.class);
+    private final UUID userId = UUID.randomUUID();
+    private final String versionKey = "user:status-version:" + userId;
+    private UserStatusVersionService versionService;
+    private UserInvalidationBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        versionService = new UserStatusVersionService(redisTemplate, mock(ReactiveStringRedisTemplate.class),
+                Duration.ofMinutes(5), 100);
+        broadcaster = new UserInvalidationBroadcaster(redisTemplate, userStatusCache, versionService, CHANNEL);
+    }
+
+    @Test
+    void versionIsServedLocallyUntilInvalidated() {
+        when(valueOperations.get(versionKey)).thenReturn("1");
+
+        assertThat(versionService.cachedVersion(userId)).isEqualTo(1);
+        assertThat(versionService.cachedVersion(userId)).isEqualTo(1);
+
+        verify(valueOperations, times(1)).get(versionKey);
+    }
+
+    @Test
+    void statusChangeBumpsTheVersionAndNotifiesOtherNodes() {
+        when(valueOperations.get(versionKey)).thenReturn("1");
+        versionService.cachedVersion(userId);
+        when(valueOperations.increment(versionKey)).thenReturn(2L);
+        when(valueOperations.get(versionKey)).thenReturn("2");
+
+        broadcaster.onUserAccessChanged(new UserAccessChangedEvent(userId));
+
+        assertThat(versionService.cachedVersion(userId)).isEqualTo(2);
+        verify(userStatusCache).evict(userId);
+        verify(redisTemplate).convertAndSend(CHANNEL, userId.toString());
+    }
+
+    @Test
+    void invalidationMessageDropsTheLocalCopy() {
+        when(valueOperations.get(versionKey)).thenReturn("1");
+        versionService.cachedVersion(userId);
+        // 다른 노드가 버전을 올리고 채널로 알렸다.
+        when(valueOperations.get(versionKey)).thenReturn("2");
+
+        broadcaster.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                userId.toString().getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(versionService.cachedVersion(userId)).isEqualTo(2);
+        verify(userStatusCache).evict(userId);
+    }
+
+    @Test
+    void lookupOverlappingAnInvalidationIsNotCached() {
+        // Redis 조회가 끝나기 전에 무효화가 도착하면, 조회한 옛 버전을 캐시에 넣지 않는다.
+        when(valueOperations.get(versionKey)).thenAnswer(invocation -> {
+            versionService.evictLocal(userId);
+            return "1";
+        }).thenReturn("2");
+
+        assertThat(versionService.cachedVersion(userId)).isEqualTo(1);
+        assertThat(versionService.cachedVersion(userId)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.auth.web;
+
+import com.example.auth.domain.user.AuthUserView;
+import com.example.auth.domain.user.enums.UserRole;
+import com.example.auth.domain.user.enums.UserStatus;
+import com.example.auth.exception.AuthFailureException;
+import com.example.auth.exception.AuthFailureReason;
+import com.example.auth.exception.GlobalExceptionHandler;
+import com.example.auth.service.AuthService;
+import com.example.auth.service.ReactiveValidationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class InternalAuthControllerTests {
+
+    private static final String HEADER = "Bearer token";
+
+    private final AuthService authService = mock(AuthService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        InternalAuthController controller = new InternalAuthController(authService,
+                mock(ReactiveValidationService.class), new ValidateHeaderCache(100));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void validHeaderOnlyResponseCarriesUserHeadersAndNoBody() throws Exception {
+        AuthUserView user = new AuthUserView(UUID.randomUUID(), "user@example.com", UserRole.ADMIN, UserStatus.ACTIVE);
+        when(authService.validateUser(HEADER)).thenReturn(user);
+
+        MvcResult result = validateHeaders(HEADER);
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(result.getResponse().getHeader("X-User-Id")).isEqualTo(user.id().toString());
+        assertThat(result.getResponse().getHeader("X-User-Email")).isEqualTo("user@example.com");
+        assertThat(result.getResponse().getHeader("X-User-Role")).isEqualTo("ADMIN");
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void inactiveUserGetsAnEmpty401() throws Exception {
+        when(authService.validateUser(HEADER)).thenThrow(
+                new AuthFailureException(HttpStatus.FORBIDDEN, "Inactive account", AuthFailureReason.INACTIVE));
+
+        assertEmptyUnauthorized(validateHeaders(HEADER));
+    }
+
+    @Test
+    void missingTokenGetsAnEmpty401() throws Exception {
+        when(authService.validateUser(null)).thenThrow(new AuthFailureException(HttpStatus.UNAUTHORIZED,
+                "Authorization header missing", AuthFailureReason.MISSING_TOKEN));
+
+        assertEmptyUnauthorized(mockMvc.perform(get("/auth/validate/headers")).andReturn());
+    }
+
+    private MvcResult validateHeaders(String authorization) throws Exception {
+        return mockMvc.perform(get("/auth/validate/headers").header(HttpHeaders.AUTHORIZATION, authorization)).andReturn();
+    }
+
+    private static void assertEmptyUnauthorized(MvcResult result) {
+        assertThat(result.getResponse().getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(result.getResponse().getHeaderNames()).noneMatch(name -> name.startsWith("X-User-"));
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+}